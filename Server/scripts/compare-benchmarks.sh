@@ -0,0 +1,41 @@
+#!/bin/bash
+# Compares two JMH result files written by the benchmarks profile, e.g. one kept from the previous commit:
+#
+#   mvn -Pbenchmarks -DskipTests verify && cp target/jmh-result.json /tmp/jmh-before.json
+#   git checkout <other commit> && mvn -Pbenchmarks -DskipTests verify
+#   scripts/compare-benchmarks.sh /tmp/jmh-before.json target/jmh-result.json [threshold %]
+#
+# Prints every benchmark's score in both runs and the relative change. Lower is better for all of them (they are
+# times per operation). Exits with 1 when any benchmark got slower by more than the threshold (default 10%).
+set -euo pipefail
+
+BEFORE=${1:?usage: compare-benchmarks.sh before.json after.json [threshold %]}
+AFTER=${2:?usage: compare-benchmarks.sh before.json after.json [threshold %]}
+THRESHOLD=${3:-10}
+
+python3 - "$BEFORE" "$AFTER" "$THRESHOLD" <<'PY'
+import json, sys
+
+def load(path):
+    scores = {}
+    for run in json.load(open(path)):
+        params = ",".join(f"{k}={v}" for k, v in sorted(run.get("params", {}).items()))
+        name = run["benchmark"].rsplit(".", 2)
+        key = ".".join(name[-2:]) + (f" [{params}]" if params else "")
+        scores[key] = (run["primaryMetric"]["score"], run["primaryMetric"]["scoreUnit"])
+    return scores
+
+before, after, threshold = load(sys.argv[1]), load(sys.argv[2]), float(sys.argv[3])
+regressed = False
+for key in sorted(before.keys() | after.keys()):
+    if key not in before or key not in after:
+        print(f"{key:<70} only in {'after' if key in after else 'before'}")
+        continue
+    (old, unit), (new, _) = before[key], after[key]
+    change = (new - old) / old * 100 if old else 0.0
+    flag = ""
+    if change > threshold:
+        flag, regressed = "  REGRESSION", True
+    print(f"{key:<70} {old:12.3f} -> {new:12.3f} {unit:<8} {change:+7.1f}%{flag}")
+sys.exit(1 if regressed else 0)
+PY
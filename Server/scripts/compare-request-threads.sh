@@ -0,0 +1,34 @@
+#!/bin/bash
+# Runs the load test (IntegrationTests/LeaveWorkloadLoadTest) with platform and with virtual request threads at
+# 1k and 10k concurrent clients and collects the four reports, throughput, latency and memory, side by side.
+#
+#   scripts/compare-request-threads.sh [duration seconds]
+#
+# Needs JDK 21 for the java21 profile, and a thread limit (ulimit -u) well above 10k: the clients run on platform
+# threads in the test JVM. Tomcat's connection limits are raised for both modes, as the virtual profile does, so
+# the runs differ only in the request threads. Latency budgets are not meant for this many clients, failures are
+# expected and only the reports matter.
+set -uo pipefail
+cd "$(dirname "$0")/.."
+
+DURATION=${1:-60}
+OUT=target/load-test/request-threads
+mkdir -p "$OUT"
+
+for clients in 1000 10000; do
+  for threads in platform virtual; do
+    profile=()
+    [ "$threads" = virtual ] && profile=(-Dspring.profiles.active=virtual)
+    echo "== $threads request threads, $clients clients"
+    mvn -B -q -Pjava21,load-test test -Dtest=LeaveWorkloadLoadTest "${profile[@]}" \
+      -Dload.clients="$clients" -Dload.duration="$DURATION" -Dload.budget.throughput=0 \
+      -Dserver.tomcat.max-connections=20000 -Dserver.tomcat.accept-count=1000 -DargLine=-Xmx4g \
+      > "$OUT/$threads-$clients.log" 2>&1
+    if [ -f target/load-test/summary.txt ]; then
+      mv target/load-test/summary.txt "$OUT/$threads-$clients.txt"
+      grep -E "^(throughput|memory)" "$OUT/$threads-$clients.txt"
+    else
+      echo "no report, see $OUT/$threads-$clients.log" >&2
+    fi
+  done
+done
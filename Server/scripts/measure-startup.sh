@@ -0,0 +1,44 @@
+#!/bin/bash
+# Measures startup time and time to first request of the plain jar against the AOT + CDS build of the cds profile.
+#
+#   mvn -Pcds -DskipTests package && scripts/measure-startup.sh [runs] [spring profile]
+#
+# The default "training" profile needs no database (see application-training.properties), pass another profile to
+# measure against a real Oracle. "Started in" is what Spring reports, "first request" is the wall clock time from
+# launching the JVM until /actuator/health answers.
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+PROFILE=${2:-training}
+PORT=${PORT:-18080}
+JAR=$(ls target/cds/*.jar | head -1)
+
+measure() {
+  local label=$1; shift
+  local total_started=0 total_first=0
+  for i in $(seq "$RUNS"); do
+    local log
+    log=$(mktemp)
+    local start
+    start=$(date +%s%N)
+    (cd target/cds && exec java "$@" -Dspring.profiles.active="$PROFILE" -Dserver.port="$PORT" -Dapp.reactive.port=0 \
+      -Dapp.log.dir="$(mktemp -d)" -jar "$(basename "$JAR")") > "$log" 2>&1 &
+    local pid=$!
+    until curl -s -o /dev/null "http://localhost:$PORT/actuator/health"; do
+      kill -0 "$pid" 2>/dev/null || { echo "$label: application exited, see $log" >&2; exit 1; }
+      sleep 0.02
+    done
+    local first=$(( ($(date +%s%N) - start) / 1000000 ))
+    kill "$pid"; wait "$pid" 2>/dev/null || true
+    local started
+    started=$(grep -o "Started ProjectApplication in [0-9.]*" "$log" | awk '{print int($4 * 1000)}')
+    total_started=$((total_started + started)); total_first=$((total_first + first))
+    rm -f "$log"
+  done
+  printf "%-12s started in %5d ms, first request after %5d ms (mean of %d runs)\n" \
+    "$label" $((total_started / RUNS)) $((total_first / RUNS)) "$RUNS"
+}
+
+measure "plain"
+measure "aot+cds" -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true
@@ -0,0 +1,133 @@
+package com.SpringBoot.Project.Benchmarks;
+
+import com.SpringBoot.Project.Models.*;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.h2.tools.Server;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+// Persisting a batch of departments through Hibernate, as the bulk import does, with the ids the entities used to
+// get from IDENTITY columns against the pooled department_seq they use now. IDENTITY sends every INSERT on its own
+// to read the generated key back, the sequence hands out 50 ids per round trip and the inserts go out in JDBC
+// batches of hibernate.jdbc.batch_size. Runs on an H2 database built from the Flyway migrations and reached over a
+// loopback TCP connection, so each statement pays a real, if short, round trip. Against Oracle over the network the
+// gap is wider still.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkInsertBenchmark {
+
+    @Param({"identity", "sequence"})
+    private String ids;
+
+    @Param({"1000"})
+    private int rows;
+
+    private Server server;
+    private SessionFactory sessionFactory;
+    private long run;
+
+    // The department table as it was mapped before the switch to sequences
+    @Entity(name = "IdentityDepartment")
+    @Table(name = "department_identity")
+    public static class IdentityDepartment {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @Column(name = "department_id")
+        private long departmentId;
+
+        private String name;
+
+        private String description;
+
+        public IdentityDepartment() {
+        }
+
+        IdentityDepartment(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+    @Setup
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:bulk-insert;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/h2").load().migrate();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table department_identity (department_id bigint generated by default as identity, "
+                    + "name varchar(255) not null, description varchar(255), "
+                    + "constraint pk_department_identity primary key (department_id), "
+                    + "constraint uk_department_identity_name unique (name))");
+        }
+
+        // The JDBC and id settings from application.properties, and Boot's naming strategies
+        Configuration configuration = new Configuration()
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .setImplicitNamingStrategy(new SpringImplicitNamingStrategy())
+                .addAnnotatedClass(Department.class)
+                .addAnnotatedClass(Employee.class)
+                .addAnnotatedClass(Roles.class)
+                .addAnnotatedClass(UserEntity.class)
+                .addAnnotatedClass(LeaveRequest.class)
+                .addAnnotatedClass(IdentityDepartment.class)
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled")
+                .setProperty(AvailableSettings.JAKARTA_VALIDATION_MODE, "none");
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource);
+        sessionFactory = configuration.buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        server.stop();
+    }
+
+    // Start every iteration from empty tables so the unique index doesn't keep growing across the run
+    @Setup(Level.Iteration)
+    public void truncate() {
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("delete from department").executeUpdate();
+            session.createNativeMutationQuery("delete from department_identity").executeUpdate();
+        });
+    }
+
+    @Benchmark
+    public long insert() {
+        long batch = run++;
+        return sessionFactory.fromTransaction(session -> {
+            for (int i = 0; i < rows; i++) {
+                String name = "Department " + batch + "-" + i;
+                session.persist("identity".equals(ids)
+                        ? new IdentityDepartment(name, "Bulk insert")
+                        : new Department(name, "Bulk insert"));
+            }
+            session.flush();
+            return batch;
+        });
+    }
+}
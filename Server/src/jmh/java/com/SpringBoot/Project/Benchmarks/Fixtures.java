@@ -0,0 +1,65 @@
+package com.SpringBoot.Project.Benchmarks;
+
+import com.SpringBoot.Project.Models.Department;
+import com.SpringBoot.Project.Models.Employee;
+import com.SpringBoot.Project.Models.Roles;
+import com.SpringBoot.Project.Models.UserEntity;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Entities and repository stand-ins shared by the benchmarks. Mockito is deliberately not used here, its
+// invocation recording would cost more than most of the code being measured.
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    // Implements a Spring Data repository interface with plain lambdas keyed by method name, anything else throws
+    @SuppressWarnings("unchecked")
+    static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> body = methods.get(method.getName());
+            if (body == null) {
+                throw new UnsupportedOperationException(method.getName() + " is not stubbed");
+            }
+            return body.apply(args);
+        });
+    }
+
+    static Roles role(int id, String name) {
+        Roles role = new Roles(name);
+        setField(role, "id", id);
+        return role;
+    }
+
+    static UserEntity user(String username, String passwordHash, Roles role) {
+        return new UserEntity(username, passwordHash, List.of(role));
+    }
+
+    static Employee employee(long id, Department department, Roles role) {
+        Employee employee = new Employee("Employee " + id, "employee" + id + "@example.com", department, role,
+                user("employee" + id, "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z2ZYq5ZQYdQ8nC6ZLJ3PZkVa", role));
+        setField(employee, "employeeId", id);
+        return employee;
+    }
+
+    static Department department(long id, String name) {
+        Department department = new Department(name, name + " department");
+        setField(department, "departmentId", id);
+        return department;
+    }
+
+    static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.SpringBoot.Project.Benchmarks;
+
+import com.SpringBoot.Project.Models.Roles;
+import com.SpringBoot.Project.Repositories.UserInterface;
+import com.SpringBoot.Project.Security.CustomUserDetailsService;
+import com.SpringBoot.Project.Security.JwtAuthenticationFilter;
+import com.SpringBoot.Project.Security.JwtGenerator;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// JwtAuthenticationFilter end to end for one request: header extraction, token validation and parsing, the user
+// lookup and populating the SecurityContext. The user repository answers from memory, so the database round trip
+// the real filter makes on every request is not included.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String validHeader;
+    private String invalidHeader;
+
+    @Setup
+    public void setUp() {
+        JwtGenerator jwtGenerator = new JwtGenerator();
+        Roles role = Fixtures.role(1, "EMPLOYEE");
+        UserInterface userInterface = Fixtures.repository(UserInterface.class,
+                Map.of("findByUsername", args -> Optional.of(Fixtures.user((String) args[0], "{noop}password", role))));
+        filter = new JwtAuthenticationFilter(jwtGenerator, new CustomUserDetailsService(userInterface));
+
+        String token = jwtGenerator.generateToken(new UsernamePasswordAuthenticationToken("john.doe", null,
+                List.of(new SimpleGrantedAuthority("EMPLOYEE"))));
+        validHeader = "Bearer " + token;
+        // Signed with another generator's key, so it fails signature verification
+        invalidHeader = "Bearer " + new JwtGenerator().generateToken(new UsernamePasswordAuthenticationToken("john.doe", null,
+                List.of(new SimpleGrantedAuthority("EMPLOYEE"))));
+    }
+
+    private Object run(String authorization) throws ServletException, IOException {
+        // A fresh request every time, OncePerRequestFilter marks the request it has seen
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/leaves");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Benchmark
+    public Object validToken() throws ServletException, IOException {
+        return run(validHeader);
+    }
+
+    @Benchmark
+    public Object invalidToken() throws ServletException, IOException {
+        return run(invalidHeader);
+    }
+
+    @Benchmark
+    public Object noToken() throws ServletException, IOException {
+        return run(null);
+    }
+}
@@ -0,0 +1,56 @@
+package com.SpringBoot.Project.Benchmarks;
+
+import com.SpringBoot.Project.Security.JwtGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Token signing on login, and the parsing every authenticated request pays (the filter parses each token twice,
+// once in validateToken and once in getUserName)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtGenerator jwtGenerator;
+    private Authentication authentication;
+    private String token;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        jwtGenerator = new JwtGenerator();
+        authentication = new UsernamePasswordAuthenticationToken("john.doe", null,
+                List.of(new SimpleGrantedAuthority("EMPLOYEE"), new SimpleGrantedAuthority("MANAGER")));
+        token = jwtGenerator.generateToken(authentication);
+        // Same header and claims, broken signature
+        tamperedToken = token.substring(0, token.length() - 4) + (token.endsWith("AAAA") ? "BBBB" : "AAAA");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtGenerator.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtGenerator.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtGenerator.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public String getUserName() {
+        return jwtGenerator.getUserName(token);
+    }
+}
@@ -0,0 +1,174 @@
+package com.SpringBoot.Project.Benchmarks;
+
+import com.SpringBoot.Project.Models.*;
+import com.SpringBoot.Project.Repositories.EmployeeInterface;
+import com.SpringBoot.Project.Repositories.LeaveRequestInterface;
+import com.SpringBoot.Project.Services.LeaveRequestService;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Overlap detection when a leave request is submitted.
+// submit* measure LeaveRequestService itself with in-memory repositories, overlapQuery runs the SQL Hibernate
+// generates for findOverlappingLeaveRequests against an embedded H2 database built from the Flyway migrations,
+// with and without the (employee_id, status, start_date, end_date) index. H2 indexes foreign keys by itself, so
+// without it the query still narrows down by employee_id, Oracle would scan the table instead.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LeaveOverlapBenchmark {
+
+    private static final int EMPLOYEES = 2_000;
+    private static final int LEAVES_PER_EMPLOYEE = 50;
+
+    private static final String OVERLAP_SQL = "select id, employee_id, start_date, end_date, status, reason, manager_comment "
+            + "from leave_request where employee_id = ? "
+            + "and ((start_date between ? and ?) or (end_date between ? and ?)) and status = 'APPROVED'";
+
+    private LeaveRequestService serviceWithoutOverlap;
+    private LeaveRequestService serviceWithOverlap;
+
+    @Setup
+    public void setUp() {
+        Department department = Fixtures.department(1, "IT");
+        Roles role = Fixtures.role(1, "EMPLOYEE");
+        Employee employee = Fixtures.employee(1, department, role);
+        LeaveRequest approved = new LeaveRequest(employee, LocalDate.now().plusDays(10), LocalDate.now().plusDays(12),
+                Status.APPROVED, "Vacation", null);
+
+        serviceWithoutOverlap = service(employee, List.of());
+        serviceWithOverlap = service(employee, List.of(approved));
+    }
+
+    // Only used by overlapQuery, so the service benchmarks don't run once per index setting
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        @Param({"true", "false"})
+        private boolean indexed;
+
+        private Connection connection;
+        private PreparedStatement overlapQuery;
+
+        @Setup
+        public void setUp() throws SQLException {
+            String url = "jdbc:h2:mem:overlap-" + indexed + ";DB_CLOSE_DELAY=-1";
+            Flyway.configure().dataSource(url, "sa", "").locations("classpath:db/migration/h2").load().migrate();
+            connection = DriverManager.getConnection(url, "sa", "");
+            seed(connection);
+            if (!indexed) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("drop index ix_leave_request_emp_status");
+                }
+            }
+            overlapQuery = connection.prepareStatement(OVERLAP_SQL);
+        }
+
+        @TearDown
+        public void tearDown() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("shutdown");
+            }
+        }
+    }
+
+    private static LeaveRequestService service(Employee employee, List<LeaveRequest> overlapping) {
+        LeaveRequestService service = new LeaveRequestService();
+        ReflectionTestUtils.setField(service, "employeeInterface", Fixtures.repository(EmployeeInterface.class,
+                Map.of("findById", args -> Optional.of(employee))));
+        ReflectionTestUtils.setField(service, "leaveRequestInterface", Fixtures.repository(LeaveRequestInterface.class,
+                Map.of("findOverlappingLeaveRequests", args -> overlapping,
+                        "save", args -> args[0])));
+        return service;
+    }
+
+    private static void seed(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("insert into department (department_id, name) values (1, 'IT')");
+            statement.execute("insert into roles (id, name) values (1, 'EMPLOYEE')");
+        }
+
+        try (PreparedStatement user = connection.prepareStatement(
+                "insert into user_entity (id, username, password) values (?, ?, 'x')");
+             PreparedStatement employee = connection.prepareStatement(
+                     "insert into employee (employee_id, name, email, department_id, roles_id, user_entity_id) values (?, ?, ?, 1, 1, ?)")) {
+            for (int i = 1; i <= EMPLOYEES; i++) {
+                user.setInt(1, i);
+                user.setString(2, "user" + i);
+                user.addBatch();
+                employee.setLong(1, i);
+                employee.setString(2, "Employee " + i);
+                employee.setString(3, "employee" + i + "@example.com");
+                employee.setInt(4, i);
+                employee.addBatch();
+            }
+            user.executeBatch();
+            employee.executeBatch();
+        }
+
+        // Two week blocks spread over the past years, a third of them approved
+        Status[] statuses = Status.values();
+        LocalDate origin = LocalDate.now().minusYears(4);
+        try (PreparedStatement leave = connection.prepareStatement(
+                "insert into leave_request (id, employee_id, start_date, end_date, status, reason) values (?, ?, ?, ?, ?, 'Vacation')")) {
+            long id = 1;
+            for (int employee = 1; employee <= EMPLOYEES; employee++) {
+                for (int i = 0; i < LEAVES_PER_EMPLOYEE; i++) {
+                    LocalDate start = origin.plusWeeks(i * 4L);
+                    leave.setLong(1, id++);
+                    leave.setLong(2, employee);
+                    leave.setDate(3, Date.valueOf(start));
+                    leave.setDate(4, Date.valueOf(start.plusDays(13)));
+                    leave.setString(5, statuses[(employee + i) % statuses.length].name());
+                    leave.addBatch();
+                }
+                leave.executeBatch();
+            }
+        }
+    }
+
+    @Benchmark
+    public Result<LeaveRequest> submitWithoutOverlap() {
+        return serviceWithoutOverlap.submitLeaveRequest(newRequest(), 1L);
+    }
+
+    @Benchmark
+    public Result<LeaveRequest> submitWithOverlap() {
+        return serviceWithOverlap.submitLeaveRequest(newRequest(), 1L);
+    }
+
+    @Benchmark
+    public int overlapQuery(Database database) throws SQLException {
+        PreparedStatement overlapQuery = database.overlapQuery;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate start = LocalDate.now().minusYears(4).plusDays(random.nextInt(4 * 365));
+        overlapQuery.setLong(1, 1 + random.nextInt(EMPLOYEES));
+        overlapQuery.setDate(2, Date.valueOf(start));
+        overlapQuery.setDate(3, Date.valueOf(start.plusDays(5)));
+        overlapQuery.setDate(4, Date.valueOf(start));
+        overlapQuery.setDate(5, Date.valueOf(start.plusDays(5)));
+        int rows = 0;
+        try (ResultSet resultSet = overlapQuery.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static LeaveRequest newRequest() {
+        return new LeaveRequest(null, LocalDate.now().plusDays(10), LocalDate.now().plusDays(11),
+                Status.PENDING, "Vacation", null);
+    }
+}
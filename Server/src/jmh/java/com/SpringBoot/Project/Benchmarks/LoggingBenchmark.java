@@ -0,0 +1,48 @@
+package com.SpringBoot.Project.Benchmarks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Latency a request thread pays for one INFO line with the asynchronous loggers from log4j2.component.properties,
+// against the same file appender called synchronously. Each variant runs in its own JVM since the context selector
+// is fixed at startup. Sampled, so the JSON results carry the percentiles and not just the mean.
+// With the Discard policy the async variant drops INFO lines once the ring buffer fills up, which is what the
+// application does too. Add -jvmArgsAppend -Dlog4j2.asyncQueueFullPolicy=Default to measure it with back pressure.
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    private static final String CONFIG = "-Dlog4j2.configurationFile=log4j2-benchmark.xml";
+
+    private Logger logger;
+
+    @Setup
+    public void setUp() {
+        logger = LogManager.getLogger("com.SpringBoot.Project.Controllers.LeaveRequestController");
+    }
+
+    @TearDown
+    public void tearDown() {
+        LogManager.shutdown();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = CONFIG)
+    public void asyncLoggers() {
+        logger.info("Successfully retrieved {} leave requests for employee {}", 12, 4711L);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {CONFIG,
+            "-Dlog4j2.contextSelector=org.apache.logging.log4j.core.selector.ClassLoaderContextSelector"})
+    public void synchronousLoggers() {
+        logger.info("Successfully retrieved {} leave requests for employee {}", 12, 4711L);
+    }
+}
@@ -0,0 +1,70 @@
+package com.SpringBoot.Project.Benchmarks;
+
+import com.SpringBoot.Project.Models.Department;
+import com.SpringBoot.Project.Models.Employee;
+import com.SpringBoot.Project.Models.Result;
+import com.SpringBoot.Project.Models.Roles;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson serialization of the Result<List<Employee>> the employee endpoints return, with the employee's department,
+// role and user nested the way the controllers write them. Output goes to a counting stream so only the
+// serialization is measured.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultSerializationBenchmark {
+
+    @Param({"10", "1000"})
+    private int employees;
+
+    private ObjectWriter writer;
+    private Result<List<Employee>> result;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the ObjectMapper Spring MVC uses
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+
+        List<Department> departments = List.of(Fixtures.department(1, "IT"), Fixtures.department(2, "HR"),
+                Fixtures.department(3, "Finance"));
+        Roles role = Fixtures.role(1, "EMPLOYEE");
+        List<Employee> list = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            list.add(Fixtures.employee(i + 1, departments.get(i % departments.size()), role));
+        }
+        result = Result.success(list, "All employees retrieved successfully.");
+    }
+
+    @Benchmark
+    public long serialize() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        writer.writeValue(out, result);
+        return out.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
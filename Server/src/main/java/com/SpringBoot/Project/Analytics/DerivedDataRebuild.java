@@ -0,0 +1,33 @@
+package com.SpringBoot.Project.Analytics;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// A structure derived from leave_request (aggregates, balances, availability bitmaps) that ParallelRebuilder can
+// recompute from scratch. The rebuilder reads every employee id range with partitionQuery on its own connection,
+// accumulates the rows into a fresh partial result, merges the partials pairwise and hands the total to swap.
+//
+// Partials are only ever touched by one thread at a time, so they don't need to be thread safe. merge may return
+// either argument after adding the other one into it.
+public interface DerivedDataRebuild<R> {
+
+    // Identifies the rebuild in progress reports and in the rebuild endpoints, at most one run per name at a time
+    String name();
+
+    // Select over leave_request with exactly two parameters, the first and the last employee id of the range, e.g.
+    // "... where l.employee_id between ? and ?". Rows are streamed, so the query should not sort.
+    String partitionQuery();
+
+    R newPartial();
+
+    void accumulate(R partial, ResultSet row) throws SQLException;
+
+    R merge(R left, R right);
+
+    // Replaces the derived data with the total. Runs inside one transaction, so readers see the old or the new
+    // data and nothing in between. Not called when the rebuild was cancelled or failed.
+    void swap(R total);
+
+    // One line for the progress report, e.g. how many rows the result has
+    String describe(R total);
+}
@@ -0,0 +1,141 @@
+package com.SpringBoot.Project.Analytics;
+
+import com.SpringBoot.Project.Dto.LeaveDaysByDepartmentRow;
+import com.SpringBoot.Project.Dto.RejectionRateRow;
+import com.SpringBoot.Project.Models.LeaveRequest;
+import com.SpringBoot.Project.Models.Status;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+// Reads and writes the leave_stats_* tables. Plain JDBC rather than entities: every change is a relative
+// "counter + delta" update, which JPA can only express as a read-modify-write that loses concurrent increments.
+// Statements run on the connection of the surrounding transaction, so the counters commit or roll back together
+// with the leave request they describe.
+@Repository
+public class LeaveAggregates {
+
+    private static final String UPDATE_DEPARTMENT = "update leave_stats_department_month "
+            + "set approved_requests = approved_requests + ?, approved_days = approved_days + ? "
+            + "where department_id = ? and month_start = ?";
+    private static final String INSERT_DEPARTMENT = "insert into leave_stats_department_month "
+            + "(approved_requests, approved_days, department_id, month_start) values (?, ?, ?, ?)";
+    private static final String UPDATE_MANAGER = "update leave_stats_manager_month "
+            + "set approved_requests = approved_requests + ?, rejected_requests = rejected_requests + ? "
+            + "where decided_by = ? and month_start = ?";
+    private static final String INSERT_MANAGER = "insert into leave_stats_manager_month "
+            + "(approved_requests, rejected_requests, decided_by, month_start) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LeaveAggregates(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Moves the request's contribution from its previous state to its current one. The department is the
+    // employee's current one, requests of employees who changed department are attributed correctly again
+    // by the next rebuild.
+    public void recordTransition(LeaveRequest request, Status previousStatus, String previousDecidedBy) {
+        if (previousStatus == request.getStatus() && Objects.equals(previousDecidedBy, request.getDecidedBy())) {
+            return;
+        }
+        LeaveStats delta = new LeaveStats();
+        long departmentId = request.getEmployee().getDepartment().getDepartmentId();
+        if (previousStatus != null) {
+            delta.add(departmentId, request.getStartDate(), request.getEndDate(), previousStatus, previousDecidedBy, -1);
+        }
+        delta.add(departmentId, request.getStartDate(), request.getEndDate(), request.getStatus(), request.getDecidedBy(), 1);
+        apply(delta);
+    }
+
+    public void recordRemoval(LeaveRequest request) {
+        LeaveStats delta = new LeaveStats();
+        delta.add(request.getEmployee().getDepartment().getDepartmentId(), request.getStartDate(), request.getEndDate(),
+                request.getStatus(), request.getDecidedBy(), -1);
+        apply(delta);
+    }
+
+    void apply(LeaveStats delta) {
+        delta.removeZeroes();
+        delta.departments().forEach((key, values) ->
+                upsert(UPDATE_DEPARTMENT, INSERT_DEPARTMENT, values, key.departmentId(), key.month()));
+        delta.managers().forEach((key, values) ->
+                upsert(UPDATE_MANAGER, INSERT_MANAGER, values, key.decidedBy(), key.month()));
+    }
+
+    // The first change for a key inserts its row. If another transaction inserted it in the meantime, the
+    // unique key rejects our insert and the update goes through on the second attempt.
+    private void upsert(String update, String insert, long[] values, Object key, LocalDate month) {
+        Object[] arguments = {values[0], values[1], key, Date.valueOf(month)};
+        if (jdbcTemplate.update(update, arguments) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(insert, arguments);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(update, arguments);
+        }
+    }
+
+    public List<LeaveDaysByDepartmentRow> approvedDaysByDepartment(YearMonth from, YearMonth to, Long departmentId) {
+        List<Object> arguments = new ArrayList<>(List.of(Date.valueOf(from.atDay(1)), Date.valueOf(to.atDay(1))));
+        String sql = "select s.department_id, d.name, s.month_start, s.approved_requests, s.approved_days "
+                + "from leave_stats_department_month s join department d on d.department_id = s.department_id "
+                + "where s.month_start between ? and ? and s.approved_days > 0";
+        if (departmentId != null) {
+            sql += " and s.department_id = ?";
+            arguments.add(departmentId);
+        }
+        sql += " order by s.month_start, d.name";
+
+        return jdbcTemplate.query(sql, (resultSet, row) -> new LeaveDaysByDepartmentRow(
+                resultSet.getLong(1),
+                resultSet.getString(2),
+                YearMonth.from(resultSet.getDate(3).toLocalDate()),
+                resultSet.getLong(4),
+                resultSet.getLong(5)), arguments.toArray());
+    }
+
+    public List<RejectionRateRow> rejectionRateByManager(YearMonth from, YearMonth to) {
+        return jdbcTemplate.query("select decided_by, sum(approved_requests), sum(rejected_requests) "
+                        + "from leave_stats_manager_month where month_start between ? and ? "
+                        + "group by decided_by having sum(approved_requests) + sum(rejected_requests) > 0 "
+                        + "order by decided_by",
+                (resultSet, row) -> {
+                    long approved = resultSet.getLong(2);
+                    long rejected = resultSet.getLong(3);
+                    return new RejectionRateRow(resultSet.getString(1), approved, rejected,
+                            (double) rejected / (approved + rejected));
+                },
+                Date.valueOf(from.atDay(1)), Date.valueOf(to.atDay(1)));
+    }
+
+    // Swaps the tables' contents for the given totals. Run inside one transaction, so reports see either the old
+    // or the new numbers and never a half written mix.
+    public void replaceAll(LeaveStats totals) {
+        jdbcTemplate.update("delete from leave_stats_department_month");
+        jdbcTemplate.update("delete from leave_stats_manager_month");
+        jdbcTemplate.batchUpdate(INSERT_DEPARTMENT, rows(totals.departments(),
+                key -> new Object[]{key.departmentId(), Date.valueOf(key.month())}));
+        jdbcTemplate.batchUpdate(INSERT_MANAGER, rows(totals.managers(),
+                key -> new Object[]{key.decidedBy(), Date.valueOf(key.month())}));
+    }
+
+    private static <K> List<Object[]> rows(Map<K, long[]> counters, Function<K, Object[]> key) {
+        List<Object[]> rows = new ArrayList<>(counters.size());
+        counters.forEach((k, values) -> {
+            Object[] keyColumns = key.apply(k);
+            rows.add(new Object[]{values[0], values[1], keyColumns[0], keyColumns[1]});
+        });
+        return rows;
+    }
+}
@@ -0,0 +1,96 @@
+package com.SpringBoot.Project.Analytics;
+
+import com.SpringBoot.Project.Models.Status;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Counters for the leave_stats_* tables, keyed the same way as their primary keys. Used both for the handful of
+// deltas a status change produces and for the full totals of a rebuild. Keys are kept sorted, so every transaction
+// updates the rows in the same order and concurrent approvals can't deadlock on them.
+public class LeaveStats {
+
+    public record DepartmentMonth(long departmentId, LocalDate month) implements Comparable<DepartmentMonth> {
+
+        private static final Comparator<DepartmentMonth> ORDER = Comparator.comparingLong(DepartmentMonth::departmentId)
+                .thenComparing(DepartmentMonth::month);
+
+        @Override
+        public int compareTo(DepartmentMonth other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    public record ManagerMonth(String decidedBy, LocalDate month) implements Comparable<ManagerMonth> {
+
+        private static final Comparator<ManagerMonth> ORDER = Comparator.comparing(ManagerMonth::decidedBy)
+                .thenComparing(ManagerMonth::month);
+
+        @Override
+        public int compareTo(ManagerMonth other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    // {approved requests, approved days} and {approved requests, rejected requests}
+    private final Map<DepartmentMonth, long[]> departments = new TreeMap<>();
+    private final Map<ManagerMonth, long[]> managers = new TreeMap<>();
+
+    public Map<DepartmentMonth, long[]> departments() {
+        return departments;
+    }
+
+    public Map<ManagerMonth, long[]> managers() {
+        return managers;
+    }
+
+    public int size() {
+        return departments.size() + managers.size();
+    }
+
+    public boolean isEmpty() {
+        return departments.isEmpty() && managers.isEmpty();
+    }
+
+    // Adds (sign 1) or removes (sign -1) what one leave request in the given state contributes. Pending requests
+    // contribute nothing, and decisions without a known decider only count towards the department totals.
+    public void add(long departmentId, LocalDate startDate, LocalDate endDate, Status status, String decidedBy, int sign) {
+        if (status == Status.APPROVED) {
+            LocalDate month = startDate.withDayOfMonth(1);
+            increment(departments, new DepartmentMonth(departmentId, month), sign, 0);
+            // Split the days over the months the leave covers, both ends inclusive
+            LocalDate from = startDate;
+            while (!from.isAfter(endDate)) {
+                LocalDate monthEnd = from.withDayOfMonth(from.lengthOfMonth());
+                LocalDate to = monthEnd.isBefore(endDate) ? monthEnd : endDate;
+                increment(departments, new DepartmentMonth(departmentId, from.withDayOfMonth(1)),
+                        0, sign * (ChronoUnit.DAYS.between(from, to) + 1));
+                from = monthEnd.plusDays(1);
+            }
+        }
+        if (decidedBy != null && (status == Status.APPROVED || status == Status.REJECTED)) {
+            ManagerMonth key = new ManagerMonth(decidedBy, startDate.withDayOfMonth(1));
+            increment(managers, key, status == Status.APPROVED ? sign : 0, status == Status.REJECTED ? sign : 0);
+        }
+    }
+
+    public void addAll(LeaveStats other) {
+        other.departments.forEach((key, values) -> increment(departments, key, values[0], values[1]));
+        other.managers.forEach((key, values) -> increment(managers, key, values[0], values[1]));
+    }
+
+    // Drops counters that cancelled out, e.g. a request re-approved by the same manager
+    public void removeZeroes() {
+        departments.values().removeIf(values -> values[0] == 0 && values[1] == 0);
+        managers.values().removeIf(values -> values[0] == 0 && values[1] == 0);
+    }
+
+    private static <K> void increment(Map<K, long[]> counters, K key, long first, long second) {
+        long[] values = counters.computeIfAbsent(key, k -> new long[2]);
+        values[0] += first;
+        values[1] += second;
+    }
+}
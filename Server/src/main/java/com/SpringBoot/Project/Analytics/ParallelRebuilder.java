@@ -0,0 +1,204 @@
+package com.SpringBoot.Project.Analytics;
+
+import com.SpringBoot.Project.Dto.RebuildProgress;
+import com.SpringBoot.Project.Dto.RebuildProgress.State;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Recomputes a DerivedDataRebuild from leave_request. The employee id space is cut into PARTITIONS_PER_THREAD
+// ranges per worker so a range with unusually many requests doesn't leave the other workers idle at the end.
+// A ForkJoinPool splits the ranges in halves down to single ranges, each of which is streamed over its own pooled
+// connection into a partial result, and joins the partials back up pairwise. The total is swapped in with one
+// transaction, after which readers see the new data all at once.
+//
+// Workers block in JDBC while they read, so the pool's parallelism is also the number of connections a rebuild
+// holds at most. Keep app.rebuild.parallelism well below the Hikari pool size.
+@Component
+public class ParallelRebuilder {
+
+    private static final Logger logger = LogManager.getLogger(ParallelRebuilder.class);
+
+    static final int PARTITIONS_PER_THREAD = 4;
+    private static final int PROGRESS_STEP = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool pool;
+    private final Map<String, Run<?>> runs = new ConcurrentHashMap<>();
+
+    public ParallelRebuilder(DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.rebuild.parallelism:4}") int parallelism) {
+        // Its own template, partitions are long forward-only scans and Oracle's default fetch size is 10
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(1000);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runs.values().forEach(Run::cancel);
+        pool.shutdownNow();
+    }
+
+    // Starts a rebuild in the background. The returned run reports progress, can be cancelled and completes with
+    // its final progress whatever the outcome.
+    public <R> Run<R> start(DerivedDataRebuild<R> rebuild) {
+        Run<R> run = new Run<>(rebuild);
+        Run<?> previous = runs.compute(rebuild.name(), (name, current) ->
+                current != null && !current.progress().isDone() ? current : run);
+        if (previous != run) {
+            throw new IllegalStateException("A rebuild of " + rebuild.name() + " is already running");
+        }
+        pool.execute(run::execute);
+        return run;
+    }
+
+    // The running rebuild with this name, or the last one that finished
+    public Optional<Run<?>> find(String name) {
+        return Optional.ofNullable(runs.get(name));
+    }
+
+    public final class Run<R> {
+
+        private final DerivedDataRebuild<R> rebuild;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger partitionsCompleted = new AtomicInteger();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final CompletableFuture<RebuildProgress> completion = new CompletableFuture<>();
+        private volatile int partitions;
+        private volatile boolean cancelled;
+        private volatile State state = State.RUNNING;
+        private volatile String summary;
+        private volatile long elapsedNanos;
+
+        private Run(DerivedDataRebuild<R> rebuild) {
+            this.rebuild = rebuild;
+        }
+
+        public RebuildProgress progress() {
+            long elapsed = state == State.RUNNING ? System.nanoTime() - startNanos : elapsedNanos;
+            return new RebuildProgress(rebuild.name(), state, partitions, partitionsCompleted.get(), rowsRead.get(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), summary);
+        }
+
+        public CompletableFuture<RebuildProgress> completion() {
+            return completion;
+        }
+
+        // Ranges stop at their next row, ranges that haven't started are skipped and nothing is swapped in
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void execute() {
+            try {
+                List<long[]> ranges = employeeRanges(pool.getParallelism() * PARTITIONS_PER_THREAD);
+                partitions = ranges.size();
+                R total = ranges.isEmpty() ? rebuild.newPartial() : new Partition(ranges, 0, ranges.size()).invoke();
+                checkCancelled();
+                transactionTemplate.executeWithoutResult(status -> rebuild.swap(total));
+                finish(State.COMPLETED, rebuild.describe(total));
+            } catch (CancellationException e) {
+                finish(State.CANCELLED, "Cancelled, the previous data was kept");
+            } catch (RuntimeException | Error e) {
+                // Stops the ranges still being read
+                cancelled = true;
+                logger.error("Rebuild of {} failed", rebuild.name(), e);
+                finish(State.FAILED, e.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+        }
+
+        private void finish(State finalState, String finalSummary) {
+            elapsedNanos = System.nanoTime() - startNanos;
+            summary = finalSummary;
+            state = finalState;
+            RebuildProgress progress = progress();
+            logger.info("Rebuild of {} {}: {} of {} ranges, {} rows in {} ms. {}", progress.name(),
+                    progress.state().name().toLowerCase(), progress.partitionsCompleted(), progress.partitions(),
+                    progress.rowsRead(), progress.elapsedMillis(), progress.summary());
+            completion.complete(progress);
+        }
+
+        private void checkCancelled() {
+            if (cancelled || Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+        }
+
+        // Equal slices of the employee id space. Ids come from a sequence, so slices hold similar numbers of employees.
+        private List<long[]> employeeRanges(int count) {
+            long[] bounds = jdbcTemplate.queryForObject("select min(employee_id), max(employee_id) from leave_request",
+                    (resultSet, row) -> new long[]{resultSet.getLong(1), resultSet.getLong(2), resultSet.wasNull() ? 1 : 0});
+            List<long[]> ranges = new ArrayList<>();
+            if (bounds == null || bounds[2] == 1) {
+                return ranges;
+            }
+            long size = Math.max(1, (bounds[1] - bounds[0] + count) / count);
+            for (long low = bounds[0]; low <= bounds[1]; low += size) {
+                ranges.add(new long[]{low, Math.min(bounds[1], low + size - 1)});
+            }
+            return ranges;
+        }
+
+        private R read(long[] range) {
+            checkCancelled();
+            R partial = rebuild.newPartial();
+            long[] unreported = new long[1];
+            jdbcTemplate.query(rebuild.partitionQuery(), resultSet -> {
+                checkCancelled();
+                rebuild.accumulate(partial, resultSet);
+                // Published in steps, a shared counter per row would have the workers contend on it
+                if (++unreported[0] == PROGRESS_STEP) {
+                    rowsRead.addAndGet(unreported[0]);
+                    unreported[0] = 0;
+                }
+            }, range[0], range[1]);
+            rowsRead.addAndGet(unreported[0]);
+            partitionsCompleted.incrementAndGet();
+            return partial;
+        }
+
+        // The ranges from..to, split in halves until a task holds a single range
+        private final class Partition extends RecursiveTask<R> {
+
+            private final List<long[]> ranges;
+            private final int from;
+            private final int to;
+
+            Partition(List<long[]> ranges, int from, int to) {
+                this.ranges = ranges;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected R compute() {
+                if (to - from == 1) {
+                    return read(ranges.get(from));
+                }
+                int middle = (from + to) >>> 1;
+                Partition left = new Partition(ranges, from, middle);
+                left.fork();
+                R right = new Partition(ranges, middle, to).compute();
+                return rebuild.merge(left.join(), right);
+            }
+        }
+    }
+}
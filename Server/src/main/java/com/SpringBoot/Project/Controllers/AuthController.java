@@ -3,6 +3,7 @@ package com.SpringBoot.Project.Controllers;
 import com.SpringBoot.Project.Dto.AuthResponseDto;
 import com.SpringBoot.Project.Dto.LoginDto;
 import com.SpringBoot.Project.Dto.RegisterDto;
+import com.SpringBoot.Project.Logging.SampledLoggers;
 import com.SpringBoot.Project.Models.Roles;
 import com.SpringBoot.Project.Models.UserEntity;
 import com.SpringBoot.Project.Repositories.RoleInterface;
@@ -30,6 +31,8 @@ import java.util.Collections;
 public class AuthController {
 
     private static final Logger logger = LogManager.getLogger(AuthController.class);
+    // Logins are a hot path, their success lines go through the rate limited "sampled" logger
+    private static final Logger sampledLogger = SampledLoggers.forClass(AuthController.class);
     private AuthenticationManager authenticationManager;
     private UserInterface userInterface;
     private RoleInterface roleInterface;
@@ -47,17 +50,18 @@ public class AuthController {
 
     @PostMapping("login")
     public ResponseEntity<AuthResponseDto> login(@RequestBody LoginDto loginDto) {
-        logger.info("Login attempt for user: {}", loginDto.getUsername());
+        logger.debug("Login attempt for user: {}", loginDto.getUsername());
         try {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(loginDto.getUsername(), loginDto.getPassword())
             );
             SecurityContextHolder.getContext().setAuthentication(authentication);
             String token = jwtGenerator.generateToken(authentication);
-            logger.info("User successfully logged in: {}", loginDto.getUsername());
+            sampledLogger.info("User successfully logged in: {}", loginDto.getUsername());
             return new ResponseEntity<>(new AuthResponseDto(token), HttpStatus.OK);
         } catch (Exception e) {
-            logger.error("Login failed for user: {}", loginDto.getUsername(), e);
+            // Bad credentials are routine, a stack trace per failed login is only noise
+            logger.warn("Login failed for user: {} - {}", loginDto.getUsername(), e.getMessage());
             throw e;
         }
     }
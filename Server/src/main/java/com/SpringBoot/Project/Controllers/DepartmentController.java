@@ -1,5 +1,6 @@
 package com.SpringBoot.Project.Controllers;
 
+import com.SpringBoot.Project.Logging.SampledLoggers;
 import com.SpringBoot.Project.Models.Department;
 import com.SpringBoot.Project.Services.DepartmentService;
 import com.SpringBoot.Project.Models.Result;
@@ -22,6 +23,7 @@ import java.util.List;
 @RequestMapping("/api/departments")
 public class DepartmentController {
     private static final Logger logger = LogManager.getLogger(DepartmentController.class);
+    private static final Logger sampledLogger = SampledLoggers.forClass(DepartmentController.class);
 
     @Autowired
     private DepartmentService departmentService;
@@ -38,9 +40,9 @@ public class DepartmentController {
     )
     @GetMapping
     public Result<List<Department>> getAllDepartments() {
-        logger.info("Fetching all departments");
+        logger.debug("Fetching all departments");
         Result<List<Department>> result = departmentService.getAllDepartments();
-        logger.info("Retrieved {} departments", result.getData().size());
+        sampledLogger.info("Retrieved {} departments", result.getData().size());
         return result;
     }
 
@@ -62,11 +64,11 @@ public class DepartmentController {
     })
     @GetMapping("/{id}")
     public Result<Department> getDepartmentById(@PathVariable Long id) {
-        logger.info("Fetching department with ID: {}", id);
+        logger.debug("Fetching department with ID: {}", id);
         Result<Department> result = departmentService.getDepartmentById(id);
 
         if (result.isSuccess()) {
-            logger.info("Successfully retrieved department: {}", result.getData().getName());
+            sampledLogger.info("Successfully retrieved department: {}", result.getData().getName());
         } else {
             logger.warn("Failed to find department with ID: {}", id);
         }
@@ -90,11 +92,11 @@ public class DepartmentController {
     })
     @PostMapping
     public ResponseEntity<Result<Department>> createDepartment(@Valid @RequestBody Department department) {
-        logger.info("Creating new department: {}", department.getName());
+        logger.debug("Creating new department: {}", department.getName());
 
         Result<Department> result = departmentService.saveOrUpdateDepartment(department);
         if (result.isSuccess()) {
-            logger.info("Successfully created department: {}", department.getName());
+            sampledLogger.info("Successfully created department: {}", department.getName());
             return new ResponseEntity<>(result, HttpStatus.CREATED);
         }
         logger.error("Failed to create department: {}. Reason: {}",
@@ -126,7 +128,7 @@ public class DepartmentController {
             @PathVariable Long id,
             @Valid @RequestBody Department department
     ) {
-        logger.info("Updating department with ID: {}", id);
+        logger.debug("Updating department with ID: {}", id);
 
         if (!id.equals(department.getDepartmentId())) {
             logger.warn("Department ID mismatch. Path ID: {}, Body ID: {}",
@@ -139,7 +141,7 @@ public class DepartmentController {
 
         Result<Department> result = departmentService.saveOrUpdateDepartment(department);
         if (result.isSuccess()) {
-            logger.info("Successfully updated department: {}", department.getName());
+            sampledLogger.info("Successfully updated department: {}", department.getName());
             return ResponseEntity.ok(result);
         } else {
             logger.error("Failed to update department: {}. Reason: {}",
@@ -169,7 +171,7 @@ public class DepartmentController {
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<Result<Void>> deleteDepartment(@PathVariable Long id) {
-        logger.info("Processing delete request for department ID: {}", id);
+        logger.debug("Processing delete request for department ID: {}", id);
 
         Result<Void> result = departmentService.deleteDepartmentById(id);
 
@@ -179,7 +181,7 @@ public class DepartmentController {
         }
 
         if (result.isSuccess()) {
-            logger.info("Successfully deleted department ID: {}", id);
+            sampledLogger.info("Successfully deleted department ID: {}", id);
             return ResponseEntity.ok(result);
         } else {
             logger.warn("Failed to delete department ID: {}. Reason: {}", id, result.getMessage());
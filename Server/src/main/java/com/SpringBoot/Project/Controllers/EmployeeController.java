@@ -1,22 +1,33 @@
 package com.SpringBoot.Project.Controllers;
 
+import com.SpringBoot.Project.Dto.EmployeeImportReportDto;
+import com.SpringBoot.Project.Dto.EmployeeLookupDto;
+import com.SpringBoot.Project.Idempotency.IdempotencyFilter;
+import com.SpringBoot.Project.Models.DataFormat;
 import com.SpringBoot.Project.Models.Employee;
 import com.SpringBoot.Project.Models.Department;
 import com.SpringBoot.Project.Services.DepartmentService;
+import com.SpringBoot.Project.Services.EmployeeImportService;
 import com.SpringBoot.Project.Services.EmployeeService;
+import com.SpringBoot.Project.Services.ExportService;
 import com.SpringBoot.Project.Models.Result;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -29,6 +40,12 @@ public class EmployeeController {
     @Autowired
     private DepartmentService departmentService;
 
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private ExportService exportService;
+
     // GET all employees
     @Operation(
             summary = "Get all employees",
@@ -44,6 +61,34 @@ public class EmployeeController {
         return employeeService.getAllEmployees();
     }
 
+    // GET export all employees
+    @Operation(
+            summary = "Export all employees",
+            description = "Streams every employee as NDJSON (default) or CSV straight from a database cursor"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Employees streamed successfully"
+    )
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @Parameter(description = "ndjson or csv")
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        DataFormat dataFormat;
+        try {
+            dataFormat = DataFormat.fromParameter(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = out -> exportService.exportEmployees(out, dataFormat);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(dataFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=employees." + dataFormat.name().toLowerCase())
+                .body(body);
+    }
+
     // GET employee by ID
     @Operation(
             summary = "Get employee by ID",
@@ -70,6 +115,35 @@ public class EmployeeController {
         }
     }
 
+    // POST look up many employees at once
+    @Operation(
+            summary = "Get employees by a list of IDs",
+            description = "Returns the requested employees in request order, ids that don't exist are flagged with found = false"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lookup completed",
+                    content = @Content(schema = @Schema(implementation = Result.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No ids, null ids or more than " + EmployeeService.MAX_BATCH_IDS + " ids were supplied"
+            )
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<Result<List<EmployeeLookupDto>>> getEmployeesByIds(
+            @Parameter(description = "Employee IDs to look up", required = true)
+            @RequestBody List<Long> ids
+    ) {
+        Result<List<EmployeeLookupDto>> result = employeeService.getEmployeesByIds(ids);
+        if (result.isSuccess()) {
+            return ResponseEntity.ok(result);
+        } else {
+            return ResponseEntity.badRequest().body(result);
+        }
+    }
+
     // POST create a new employee
     @Operation(
             summary = "Create a new employee",
@@ -86,6 +160,8 @@ public class EmployeeController {
                     description = "Invalid employee data or department not found"
             )
     })
+    @Parameter(name = IdempotencyFilter.HEADER, in = ParameterIn.HEADER,
+            description = "Optional. A retry with the same key returns the first response instead of creating the employee again")
     @PostMapping
     public ResponseEntity<?> createEmployee(
             @Parameter(description = "Employee details to create", required = true)
@@ -113,6 +189,40 @@ public class EmployeeController {
         return new ResponseEntity<>(result.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    // POST bulk import employees
+    @Operation(
+            summary = "Bulk import employees",
+            description = "Streams CSV (name,email,departmentId,roleId,username) or NDJSON rows and imports them in batches, returning a per-row error report"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import finished, rejected rows are listed in the report",
+                    content = @Content(schema = @Schema(implementation = Result.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "The request body could not be read"
+            )
+    })
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<Result<EmployeeImportReportDto>> importEmployees(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        DataFormat format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(DataFormat.CSV.getMediaType()))
+                ? DataFormat.CSV
+                : DataFormat.NDJSON;
+
+        Result<EmployeeImportReportDto> result = employeeImportService.importEmployees(body, format);
+
+        if (result.isSuccess()) {
+            return ResponseEntity.ok(result);
+        } else {
+            return ResponseEntity.badRequest().body(result);
+        }
+    }
+
     // PUT update an employee
     @Operation(
             summary = "Update an existing employee",
@@ -1,14 +1,24 @@
 package com.SpringBoot.Project.Controllers;
 
+import com.SpringBoot.Project.Idempotency.IdempotencyFilter;
+import com.SpringBoot.Project.Logging.SampledLoggers;
+import com.SpringBoot.Project.Models.DataFormat;
 import com.SpringBoot.Project.Models.LeaveRequest;
 import com.SpringBoot.Project.Models.Result;
+import com.SpringBoot.Project.Services.ExportService;
 import com.SpringBoot.Project.Services.LeaveRequestService;
+import com.SpringBoot.Project.Streaming.LeaveEventHub;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -24,10 +34,17 @@ import java.util.List;
 @Tag(name = "Leave Requests", description = "Endpoints for managing leave requests")
 public class LeaveRequestController {
     private static final Logger logger = LogManager.getLogger(LeaveRequestController.class);
+    private static final Logger sampledLogger = SampledLoggers.forClass(LeaveRequestController.class);
 
     @Autowired
     private LeaveRequestService leaveRequestService;
 
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private LeaveEventHub leaveEventHub;
+
     // Get all leave requests (Admin and Managers only)
     @Operation(
             summary = "Get all leave requests",
@@ -42,12 +59,65 @@ public class LeaveRequestController {
     })
     @GetMapping
     public ResponseEntity<Result<List<LeaveRequest>>> getAllLeaveRequests() {
-        logger.info("Fetching all leave requests");
+        logger.debug("Fetching all leave requests");
         Result<List<LeaveRequest>> result = leaveRequestService.getAllLeaveRequests();
-        logger.info("Retrieved {} leave requests", result.getData().size());
+        sampledLogger.info("Retrieved {} leave requests", result.getData().size());
         return ResponseEntity.ok(result);
     }
 
+    // Export the full leave history (Admin and Managers only)
+    @Operation(
+            summary = "Export all leave requests",
+            description = "Streams the full leave history as NDJSON (default) or CSV straight from a database cursor"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Leave requests streamed successfully"
+            )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLeaveRequests(
+            @Parameter(description = "ndjson or csv")
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        DataFormat dataFormat;
+        try {
+            dataFormat = DataFormat.fromParameter(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        logger.info("Exporting leave requests as {}", dataFormat);
+        StreamingResponseBody body = out -> exportService.exportLeaveRequests(out, dataFormat);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(dataFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=leave-requests." + dataFormat.name().toLowerCase())
+                .body(body);
+    }
+
+    // Live leave request changes, instead of polling the list (Admin and Managers only)
+    @Operation(
+            summary = "Stream leave request changes",
+            description = "Server-Sent Events: a 'created' or 'updated' event with the change as JSON for every leave "
+                    + "request submitted or updated from now on, optionally for one department. Clients that fall "
+                    + "behind are disconnected and should reload the list when they reconnect."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Event stream opened"
+            )
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLeaveRequestChanges(
+            @Parameter(description = "Only changes for employees of this department")
+            @RequestParam(required = false) Long departmentId
+    ) {
+        logger.debug("Opening leave request stream for department {}", departmentId);
+        return leaveEventHub.subscribe(departmentId);
+    }
+
     // Submit a new leave request (Employee only)
     @Operation(
             summary = "Submit a new leave request",
@@ -73,6 +143,8 @@ public class LeaveRequestController {
                     description = "Internal server error"
             )
     })
+    @Parameter(name = IdempotencyFilter.HEADER, in = ParameterIn.HEADER,
+            description = "Optional. A retry with the same key returns the first response instead of submitting again")
     @PostMapping("submit")
     public ResponseEntity<Result<LeaveRequest>> submitLeaveRequest(
             @Parameter(description = "Leave request details", required = true)
@@ -80,13 +152,13 @@ public class LeaveRequestController {
             @Parameter(description = "ID of the employee submitting the leave request", required = true)
             @RequestParam Long employeeId
     ) {
-        logger.info("Processing leave request submission for employee ID: {}", employeeId);
+        logger.debug("Processing leave request submission for employee ID: {}", employeeId);
         logger.debug("Leave request details - Start Date: {}, End Date: {}, Reason: {}",
                 leaveRequest.getStartDate(), leaveRequest.getEndDate(), leaveRequest.getReason());
         Result<LeaveRequest> result = leaveRequestService.submitLeaveRequest(leaveRequest, employeeId);
 
         if (result.isSuccess()) {
-            logger.info("Successfully submitted leave request for employee ID: {}", employeeId);
+            sampledLogger.info("Successfully submitted leave request for employee ID: {}", employeeId);
         } else {
             logger.warn("Failed to submit leave request for employee ID: {}. Reason: {}",
                     employeeId, result.getMessage());
@@ -129,13 +201,13 @@ public class LeaveRequestController {
             @Parameter(description = "Updated leave request details", required = true)
             @RequestBody LeaveRequest updatedRequest
     ) {
-        logger.info("Processing leave request update for request ID: {}", id);
+        logger.debug("Processing leave request update for request ID: {}", id);
         logger.debug("Updated status: {}", updatedRequest.getStatus());
 
         Result<LeaveRequest> result = leaveRequestService.updateLeaveRequest(id, updatedRequest);
 
         if (result.isSuccess()) {
-            logger.info("Successfully updated leave request ID: {} to status: {}",
+            sampledLogger.info("Successfully updated leave request ID: {} to status: {}",
                     id, updatedRequest.getStatus());
         } else {
             logger.warn("Failed to update leave request ID: {}. Reason: {}", id, result.getMessage());
@@ -160,12 +232,12 @@ public class LeaveRequestController {
             @Parameter(description = "ID of the leave request to delete", required = true)
             @PathVariable Long id
     ) {
-        logger.info("Processing delete request for leave request ID: {}", id);
+        logger.debug("Processing delete request for leave request ID: {}", id);
 
         Result<Void> result = leaveRequestService.deleteLeaveRequest(id);
 
         if (result.isSuccess()) {
-            logger.info("Successfully deleted leave request ID: {}", id);
+            sampledLogger.info("Successfully deleted leave request ID: {}", id);
         } else {
             logger.warn("Failed to delete leave request ID: {}. Reason: {}", id, result.getMessage());
         }
@@ -0,0 +1,190 @@
+package com.SpringBoot.Project.Controllers;
+
+import com.SpringBoot.Project.Dto.LeaveDaysByDepartmentRow;
+import com.SpringBoot.Project.Dto.RebuildProgress;
+import com.SpringBoot.Project.Dto.RejectionRateRow;
+import com.SpringBoot.Project.Logging.SampledLoggers;
+import com.SpringBoot.Project.Models.Result;
+import com.SpringBoot.Project.Services.LeaveAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reports")
+@Tag(name = "Reports", description = "Leave statistics answered from precomputed monthly aggregates")
+public class ReportController {
+    private static final Logger logger = LogManager.getLogger(ReportController.class);
+    private static final Logger sampledLogger = SampledLoggers.forClass(ReportController.class);
+
+    @Autowired
+    private LeaveAnalyticsService leaveAnalyticsService;
+
+    // Approved leave days per department per month (Admin and Managers only)
+    @Operation(
+            summary = "Approved leave days per department",
+            description = "Approved requests and days per department and month. Requests count in the month they start, "
+                    + "their days in the months they cover. Defaults to the last twelve months."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Report retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = Result.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid month range"
+            )
+    })
+    @GetMapping("/leave-days")
+    public ResponseEntity<Result<List<LeaveDaysByDepartmentRow>>> getApprovedDaysByDepartment(
+            @Parameter(description = "First month, e.g. 2025-01")
+            @RequestParam(required = false) YearMonth from,
+            @Parameter(description = "Last month, e.g. 2025-12")
+            @RequestParam(required = false) YearMonth to,
+            @Parameter(description = "Only this department")
+            @RequestParam(required = false) Long departmentId
+    ) {
+        YearMonth last = to != null ? to : YearMonth.now();
+        YearMonth first = from != null ? from : last.minusMonths(11);
+        logger.debug("Fetching approved leave days from {} to {} for department {}", first, last, departmentId);
+
+        Result<List<LeaveDaysByDepartmentRow>> result = leaveAnalyticsService.getApprovedDaysByDepartment(first, last, departmentId);
+        if (!result.isSuccess()) {
+            logger.warn("Invalid approved leave days report request: {}", result.getErrors());
+            return ResponseEntity.badRequest().body(result);
+        }
+        sampledLogger.info("Retrieved {} department months of approved leave", result.getData().size());
+        return ResponseEntity.ok(result);
+    }
+
+    // Rejection rate per approving manager (Admin and Managers only)
+    @Operation(
+            summary = "Rejection rate by manager",
+            description = "Approved and rejected requests per deciding user for requests starting in the given months. "
+                    + "Defaults to the last twelve months."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Report retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = Result.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid month range"
+            )
+    })
+    @GetMapping("/rejection-rate")
+    public ResponseEntity<Result<List<RejectionRateRow>>> getRejectionRateByManager(
+            @Parameter(description = "First month, e.g. 2025-01")
+            @RequestParam(required = false) YearMonth from,
+            @Parameter(description = "Last month, e.g. 2025-12")
+            @RequestParam(required = false) YearMonth to
+    ) {
+        YearMonth last = to != null ? to : YearMonth.now();
+        YearMonth first = from != null ? from : last.minusMonths(11);
+        logger.debug("Fetching rejection rates from {} to {}", first, last);
+
+        Result<List<RejectionRateRow>> result = leaveAnalyticsService.getRejectionRateByManager(first, last);
+        if (!result.isSuccess()) {
+            logger.warn("Invalid rejection rate report request: {}", result.getErrors());
+            return ResponseEntity.badRequest().body(result);
+        }
+        sampledLogger.info("Retrieved rejection rates for {} managers", result.getData().size());
+        return ResponseEntity.ok(result);
+    }
+
+    // Start recomputing the aggregates from the leave history (Admin only)
+    @Operation(
+            summary = "Rebuild leave statistics",
+            description = "Starts recomputing the monthly aggregates from all leave requests in parallel. "
+                    + "The new numbers are swapped in at once when it completes, poll GET for progress."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Rebuild started",
+                    content = @Content(schema = @Schema(implementation = Result.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "A rebuild is already running"
+            )
+    })
+    @PostMapping("/rebuild")
+    public ResponseEntity<Result<RebuildProgress>> startRebuild() {
+        logger.info("Starting leave statistics rebuild");
+        Result<RebuildProgress> result = leaveAnalyticsService.startRebuild();
+        if (!result.isSuccess()) {
+            logger.warn("Leave statistics rebuild rejected: {}", result.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+        }
+        return ResponseEntity.accepted().body(result);
+    }
+
+    // Progress of the running rebuild, or the outcome of the last one (Admin only)
+    @Operation(
+            summary = "Leave statistics rebuild progress",
+            description = "Ranges and rows read so far, or the outcome of the last rebuild"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Progress retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = Result.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No rebuild since startup"
+            )
+    })
+    @GetMapping("/rebuild")
+    public ResponseEntity<Result<RebuildProgress>> getRebuildProgress() {
+        Result<RebuildProgress> result = leaveAnalyticsService.getRebuildProgress();
+        if (!result.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    // Cancel the running rebuild, the current aggregates are kept (Admin only)
+    @Operation(
+            summary = "Cancel the leave statistics rebuild",
+            description = "Stops the running rebuild without swapping in anything"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Rebuild cancelled",
+                    content = @Content(schema = @Schema(implementation = Result.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No rebuild is running"
+            )
+    })
+    @DeleteMapping("/rebuild")
+    public ResponseEntity<Result<RebuildProgress>> cancelRebuild() {
+        logger.info("Cancelling leave statistics rebuild");
+        Result<RebuildProgress> result = leaveAnalyticsService.cancelRebuild();
+        if (!result.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+        }
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,136 @@
+package com.SpringBoot.Project.Controllers;
+
+import com.SpringBoot.Project.Dto.WebhookEndpointStatus;
+import com.SpringBoot.Project.Logging.SampledLoggers;
+import com.SpringBoot.Project.Models.Result;
+import com.SpringBoot.Project.Models.WebhookSubscription;
+import com.SpringBoot.Project.Services.WebhookService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/webhooks")
+@Tag(name = "Webhooks", description = "Push notifications of leave submissions and decisions")
+public class WebhookController {
+    private static final Logger logger = LogManager.getLogger(WebhookController.class);
+    private static final Logger sampledLogger = SampledLoggers.forClass(WebhookController.class);
+
+    @Autowired
+    private WebhookService webhookService;
+
+    // List webhook subscriptions (Admin only)
+    @Operation(
+            summary = "Get all webhook subscriptions",
+            description = "Endpoints receiving leave events, secrets are not returned"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Subscriptions retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = Result.class))
+            )
+    })
+    @GetMapping
+    public ResponseEntity<Result<List<WebhookSubscription>>> getAllSubscriptions() {
+        Result<List<WebhookSubscription>> result = webhookService.getAllSubscriptions();
+        sampledLogger.info("Retrieved {} webhook subscriptions", result.getData().size());
+        return ResponseEntity.ok(result);
+    }
+
+    // Register a webhook endpoint (Admin only)
+    @Operation(
+            summary = "Subscribe a webhook endpoint",
+            description = "Leave events are POSTed to the URL in batches, as a JSON array of {id, type, createdAt, "
+                    + "payload}. eventTypes is a comma separated list of LEAVE_SUBMITTED and LEAVE_STATUS_CHANGED, "
+                    + "empty for both. With a secret every request carries X-Webhook-Signature: sha256=<HMAC of the "
+                    + "body>. Delivery is best effort: events still queued when the server stops, or dropped because "
+                    + "the endpoint fell too far behind, are not sent again. A batch that timed out is retried and "
+                    + "may arrive twice, receivers dedupe on id."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Subscription created",
+                    content = @Content(schema = @Schema(implementation = Result.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid URL or event type"
+            )
+    })
+    @PostMapping
+    public ResponseEntity<Result<WebhookSubscription>> subscribe(@Valid @RequestBody WebhookSubscription subscription) {
+        logger.debug("Subscribing webhook endpoint {}", subscription.getUrl());
+        Result<WebhookSubscription> result = webhookService.subscribe(subscription);
+        if (!result.isSuccess()) {
+            logger.warn("Invalid webhook subscription: {}", result.getErrors());
+            return ResponseEntity.badRequest().body(result);
+        }
+        logger.info("Subscribed webhook endpoint {} as {}", subscription.getUrl(), result.getData().getId());
+        return new ResponseEntity<>(result, HttpStatus.CREATED);
+    }
+
+    // Delivery state of a webhook endpoint (Admin only)
+    @Operation(
+            summary = "Webhook delivery status",
+            description = "Circuit state, pending events and delivery counts since startup"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Status retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = Result.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Subscription not found"
+            )
+    })
+    @GetMapping("/{id}/status")
+    public ResponseEntity<Result<WebhookEndpointStatus>> getStatus(@PathVariable Long id) {
+        Result<WebhookEndpointStatus> result = webhookService.getStatus(id);
+        if (!result.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    // Remove a webhook endpoint, its queued events are discarded (Admin only)
+    @Operation(
+            summary = "Unsubscribe a webhook endpoint",
+            description = "Stops deliveries to the endpoint and discards its queued events"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Subscription deleted"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Subscription not found"
+            )
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Result<Void>> unsubscribe(@PathVariable Long id) {
+        Result<Void> result = webhookService.unsubscribe(id);
+        if (!result.isSuccess()) {
+            logger.warn("Failed to delete webhook subscription {}: {}", id, result.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+        }
+        logger.info("Deleted webhook subscription {}", id);
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,408 @@
+package com.SpringBoot.Project.Database;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// Fills the configured database with synthetic departments, users, employees and leave histories for benchmarks and
+// load tests. Rows go straight through batched JDBC on one connection, committed once per batch. The same seed
+// produces the same data on an empty schema, with dates relative to the day it runs. A run that fails deletes the
+// rows it already committed again, so it can be repeated with the same seed and prefix.
+//
+// Ids are reserved from the entities' sequences in blocks of ALLOCATION_SIZE, the same way Hibernate's pooled
+// optimizer does, so generated rows never collide with rows the application inserts afterwards (or before).
+public class DataGenerator {
+
+    private static final Logger logger = LogManager.getLogger(DataGenerator.class);
+
+    // Must match allocationSize on the entities and INCREMENT BY on the sequences
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final String[] DEPARTMENT_NAMES = {"Engineering", "Sales", "Support", "Finance", "Marketing",
+            "Operations", "Human Resources", "Legal", "Logistics", "Research"};
+    private static final String[] FIRST_NAMES = {"Anna", "Ben", "Chloe", "David", "Emma", "Farid", "Grace", "Hugo",
+            "Ines", "Jonas", "Kira", "Liam", "Maya", "Noah", "Olivia", "Pavel", "Quinn", "Rosa", "Sven", "Tara"};
+    private static final String[] LAST_NAMES = {"Andersen", "Becker", "Costa", "Dubois", "Evans", "Fischer",
+            "Garcia", "Hansen", "Ivanova", "Jensen", "Kowalski", "Larsen", "Moreau", "Novak", "Olsen", "Petrov"};
+    private static final String[] REASONS = {"Vacation", "Family event", "Medical appointment", "Sick leave",
+            "Moving house", "Personal", "Conference", "Parental leave"};
+
+    public record Settings(long seed, int departments, int employees, int yearsOfHistory,
+                           double leavesPerEmployeePerYear, String usernamePrefix, String passwordHash, int batchSize) {
+
+        // Every generated user shares this hash, BCrypt is deliberately too slow to run once per user
+        public Settings withPasswordHash(String passwordHash) {
+            return new Settings(seed, departments, employees, yearsOfHistory, leavesPerEmployeePerYear,
+                    usernamePrefix, passwordHash, batchSize);
+        }
+    }
+
+    public record Summary(int departments, int users, int employees, long leaveRequests, long elapsedMillis) {
+
+        public long rowsPerMinute() {
+            long rows = departments + 2L * users + employees + leaveRequests;
+            return elapsedMillis == 0 ? rows : rows * TimeUnit.MINUTES.toMillis(1) / elapsedMillis;
+        }
+    }
+
+    private final DataSource dataSource;
+
+    public DataGenerator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public Summary generate(Settings settings) throws SQLException {
+        long start = System.nanoTime();
+        Random random = new Random(settings.seed());
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            long[] departments = new long[0];
+            List<Long> users = new ArrayList<>();
+            try {
+                if (usernameTaken(connection, settings.usernamePrefix() + ".admin")) {
+                    throw new IllegalStateException("Data with username prefix " + settings.usernamePrefix()
+                            + " was already generated, use another prefix");
+                }
+
+                Map<String, Integer> roles = ensureRoles(connection);
+                departments = insertDepartments(connection, settings, random);
+                Summary summary = insertPeopleAndLeaves(connection, settings, random, roles, departments, users);
+                connection.commit();
+
+                long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                summary = new Summary(summary.departments(), summary.users(), summary.employees(),
+                        summary.leaveRequests(), elapsed);
+                logger.info("Generated {} departments, {} users, {} employees and {} leave requests in {} ms ({} rows/min)",
+                        summary.departments(), summary.users(), summary.employees(), summary.leaveRequests(),
+                        elapsed, summary.rowsPerMinute());
+                return summary;
+            } catch (SQLException | RuntimeException e) {
+                // Drops the batch in flight, the batches before it are already committed and have to be deleted
+                connection.rollback();
+                try {
+                    if (!users.isEmpty() || departments.length > 0) {
+                        deleteGenerated(connection, departments, users, settings.batchSize());
+                    }
+                } catch (SQLException | RuntimeException cleanup) {
+                    connection.rollback();
+                    logger.error("Failed to delete the rows of the failed run with username prefix {}",
+                            settings.usernamePrefix(), cleanup);
+                    e.addSuppressed(cleanup);
+                }
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    // Children before parents. Roles stay, they may have been there before and are reused by the next run.
+    private void deleteGenerated(Connection connection, long[] departments, List<Long> users, int batchSize) throws SQLException {
+        try (PreparedStatement leaves = connection.prepareStatement(
+                "delete from leave_request where employee_id in (select employee_id from employee where user_entity_id = ?)");
+             PreparedStatement employees = connection.prepareStatement("delete from employee where user_entity_id = ?");
+             PreparedStatement userRoles = connection.prepareStatement("delete from user_roles where user_id = ?");
+             PreparedStatement userEntities = connection.prepareStatement("delete from user_entity where id = ?");
+             PreparedStatement departmentRows = connection.prepareStatement("delete from department where department_id = ?")) {
+            for (int i = 0; i < users.size(); i++) {
+                for (PreparedStatement statement : List.of(leaves, employees, userRoles, userEntities)) {
+                    statement.setLong(1, users.get(i));
+                    statement.addBatch();
+                }
+                if ((i + 1) % batchSize == 0) {
+                    executeBatches(leaves, employees, userRoles, userEntities);
+                }
+            }
+            executeBatches(leaves, employees, userRoles, userEntities);
+            for (long department : departments) {
+                departmentRows.setLong(1, department);
+                departmentRows.addBatch();
+            }
+            departmentRows.executeBatch();
+        }
+        connection.commit();
+        logger.warn("Deleted the {} users and {} departments of a failed run", users.size(), departments.length);
+    }
+
+    private static void executeBatches(PreparedStatement... statements) throws SQLException {
+        for (PreparedStatement statement : statements) {
+            statement.executeBatch();
+        }
+    }
+
+    private boolean usernameTaken(Connection connection, String username) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("select count(*) from user_entity where username = ?")) {
+            statement.setString(1, username);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getLong(1) > 0;
+            }
+        }
+    }
+
+    // Roles are reference data the application looks up by name, existing ones are reused
+    private Map<String, Integer> ensureRoles(Connection connection) throws SQLException {
+        Map<String, Integer> roles = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select id, name from roles")) {
+            while (resultSet.next()) {
+                roles.put(resultSet.getString(2), resultSet.getInt(1));
+            }
+        }
+
+        try (IdBlock ids = new IdBlock(connection, "roles_seq");
+             PreparedStatement insert = connection.prepareStatement("insert into roles (id, name) values (?, ?)")) {
+            for (String name : List.of("ADMIN", "MANAGER", "EMPLOYEE")) {
+                if (!roles.containsKey(name)) {
+                    int id = (int) ids.next();
+                    insert.setInt(1, id);
+                    insert.setString(2, name);
+                    insert.executeUpdate();
+                    roles.put(name, id);
+                }
+            }
+        }
+        return roles;
+    }
+
+    private long[] insertDepartments(Connection connection, Settings settings, Random random) throws SQLException {
+        long[] ids = new long[settings.departments()];
+        try (IdBlock idBlock = new IdBlock(connection, "department_seq");
+             PreparedStatement insert = connection.prepareStatement(
+                "insert into department (department_id, name, description) values (?, ?, ?)")) {
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = idBlock.next();
+                String name = DEPARTMENT_NAMES[i % DEPARTMENT_NAMES.length] + " " + settings.usernamePrefix() + "-" + (i + 1);
+                insert.setLong(1, ids[i]);
+                insert.setString(2, name);
+                insert.setString(3, "Generated " + DEPARTMENT_NAMES[i % DEPARTMENT_NAMES.length].toLowerCase(Locale.ROOT)
+                        + " team " + (random.nextInt(90) + 10));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        return ids;
+    }
+
+    private Summary insertPeopleAndLeaves(Connection connection, Settings settings, Random random,
+                                          Map<String, Integer> roles, long[] departments, List<Long> generatedUsers) throws SQLException {
+        double[] departmentWeights = departmentWeights(departments.length);
+        LocalDate today = LocalDate.now();
+        LocalDate historyStart = today.minusYears(settings.yearsOfHistory()).withDayOfYear(1);
+
+        long leaveRequests = 0;
+        int pending = 0;
+        try (IdBlock userIds = new IdBlock(connection, "user_entity_seq");
+             IdBlock employeeIds = new IdBlock(connection, "employee_seq");
+             IdBlock leaveIds = new IdBlock(connection, "leave_request_seq");
+             PreparedStatement users = connection.prepareStatement(
+                "insert into user_entity (id, username, password) values (?, ?, ?)");
+             PreparedStatement userRoles = connection.prepareStatement(
+                     "insert into user_roles (user_id, role_id) values (?, ?)");
+             PreparedStatement employees = connection.prepareStatement(
+                     "insert into employee (employee_id, name, email, department_id, roles_id, user_entity_id) values (?, ?, ?, ?, ?, ?)");
+             PreparedStatement leaves = connection.prepareStatement(
+                     "insert into leave_request (id, employee_id, start_date, end_date, status, reason, manager_comment, decided_by) values (?, ?, ?, ?, ?, ?, ?, ?)")) {
+
+            // An admin account to log in with, it has no employee record
+            long adminId = userIds.next();
+            generatedUsers.add(adminId);
+            String admin = settings.usernamePrefix() + ".admin";
+            users.setLong(1, adminId);
+            users.setString(2, admin);
+            users.setString(3, settings.passwordHash());
+            users.addBatch();
+            userRoles.setLong(1, adminId);
+            userRoles.setInt(2, roles.get("ADMIN"));
+            userRoles.addBatch();
+
+            // Decisions go to the department's latest manager, or to the admin until the department has one
+            Map<Long, String> managers = new HashMap<>();
+            for (int i = 1; i <= settings.employees(); i++) {
+                long userId = userIds.next();
+                generatedUsers.add(userId);
+                long employeeId = employeeIds.next();
+                // Roughly one manager per ten employees
+                int role = random.nextInt(10) == 0 ? roles.get("MANAGER") : roles.get("EMPLOYEE");
+                String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                String username = settings.usernamePrefix() + ".user" + i;
+
+                users.setLong(1, userId);
+                users.setString(2, username);
+                users.setString(3, settings.passwordHash());
+                users.addBatch();
+                userRoles.setLong(1, userId);
+                userRoles.setInt(2, role);
+                userRoles.addBatch();
+                employees.setLong(1, employeeId);
+                employees.setString(2, first + " " + last);
+                employees.setString(3, username + "@example.com");
+                long department = departments[pick(departmentWeights, random)];
+                employees.setLong(4, department);
+                employees.setInt(5, role);
+                employees.setLong(6, userId);
+                employees.addBatch();
+                if (role == roles.get("MANAGER")) {
+                    managers.put(department, username);
+                }
+
+                // Employees join over the history window, so early years have fewer requests
+                LocalDate joined = historyStart.plusDays(random.nextInt(Math.max(1, settings.yearsOfHistory() * 365 / 2)));
+                for (LeaveSpan span : leaveHistory(random, joined, today, settings.leavesPerEmployeePerYear())) {
+                    leaves.setLong(1, leaveIds.next());
+                    leaves.setLong(2, employeeId);
+                    leaves.setDate(3, Date.valueOf(span.start()));
+                    leaves.setDate(4, Date.valueOf(span.end()));
+                    leaves.setString(5, span.status());
+                    leaves.setString(6, REASONS[random.nextInt(REASONS.length)]);
+                    leaves.setString(7, "REJECTED".equals(span.status()) ? "Team coverage too low" : null);
+                    leaves.setString(8, "PENDING".equals(span.status()) ? null : managers.getOrDefault(department, admin));
+                    leaves.addBatch();
+                    leaveRequests++;
+                    pending++;
+                }
+
+                // Parents before children, the foreign keys are checked on every batch
+                if (i % settings.batchSize() == 0 || pending >= settings.batchSize()) {
+                    users.executeBatch();
+                    userRoles.executeBatch();
+                    employees.executeBatch();
+                    leaves.executeBatch();
+                    connection.commit();
+                    pending = 0;
+                }
+            }
+            users.executeBatch();
+            userRoles.executeBatch();
+            employees.executeBatch();
+            leaves.executeBatch();
+        }
+        return new Summary(departments.length, settings.employees() + 1, settings.employees(), leaveRequests, 0);
+    }
+
+    record LeaveSpan(LocalDate start, LocalDate end, String status) {
+    }
+
+    // A non-overlapping history from the joining date to a quarter past today. Short absences are the most common,
+    // longer ones cluster in summer and around the new year. Past requests are decided (mostly approved), requests
+    // in the future are still pending or already approved.
+    static List<LeaveSpan> leaveHistory(Random random, LocalDate from, LocalDate today, double perYear) {
+        List<LeaveSpan> spans = new ArrayList<>();
+        LocalDate until = today.plusMonths(3);
+        // Mean gap between requests, drawn from an exponential distribution so counts per year vary
+        double meanGapDays = 365.0 / Math.max(0.1, perYear);
+        LocalDate cursor = from;
+
+        while (true) {
+            cursor = cursor.plusDays(1 + (long) (-Math.log(1 - random.nextDouble()) * meanGapDays));
+            cursor = seasonal(random, cursor);
+            if (cursor.isAfter(until)) {
+                return spans;
+            }
+            int length = leaveLength(random, cursor);
+            LocalDate end = cursor.plusDays(length - 1);
+
+            String status;
+            if (!cursor.isAfter(today)) {
+                status = random.nextInt(100) < 88 ? "APPROVED" : "REJECTED";
+            } else {
+                status = random.nextInt(100) < 60 ? "PENDING" : "APPROVED";
+            }
+            spans.add(new LeaveSpan(cursor, end, status));
+            cursor = end;
+        }
+    }
+
+    // Nudges some requests into the summer holidays or the days around Christmas
+    private static LocalDate seasonal(Random random, LocalDate date) {
+        int roll = random.nextInt(100);
+        if (roll < 15 && date.getMonth().getValue() >= Month.MAY.getValue() && date.getMonth().getValue() <= Month.JUNE.getValue()) {
+            return date.plusWeeks(4 + random.nextInt(4));
+        }
+        if (roll < 25 && date.getMonth() == Month.DECEMBER && date.getDayOfMonth() < 15) {
+            return date.withDayOfMonth(20 + random.nextInt(5));
+        }
+        return date;
+    }
+
+    private static int leaveLength(Random random, LocalDate start) {
+        boolean holidaySeason = start.getMonth() == Month.JULY || start.getMonth() == Month.AUGUST
+                || start.getMonth() == Month.DECEMBER;
+        int roll = random.nextInt(100);
+        if (roll < 45) {
+            return 1 + random.nextInt(2);
+        }
+        if (roll < (holidaySeason ? 60 : 85)) {
+            return 3 + random.nextInt(3);
+        }
+        return 7 + random.nextInt(14);
+    }
+
+    // Department sizes follow a Zipf-like curve, a few large departments and a long tail of small ones
+    private static double[] departmentWeights(int departments) {
+        double[] cumulative = new double[departments];
+        double total = 0;
+        for (int i = 0; i < departments; i++) {
+            total += 1.0 / Math.pow(i + 1, 0.8);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < departments; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    private static int pick(double[] cumulativeWeights, Random random) {
+        int index = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+        return Math.min(index < 0 ? -index - 1 : index, cumulativeWeights.length - 1);
+    }
+
+    // Reserves ids from a sequence ALLOCATION_SIZE at a time. Like Hibernate's pooled optimizer, a sequence value v
+    // stands for the ids v - ALLOCATION_SIZE + 1 up to v.
+    static final class IdBlock implements AutoCloseable {
+
+        private final PreparedStatement nextValue;
+        private long next;
+        private long last = -1;
+
+        IdBlock(Connection connection, String sequence) throws SQLException {
+            String product = connection.getMetaData().getDatabaseProductName();
+            this.nextValue = connection.prepareStatement(product.toLowerCase(Locale.ROOT).contains("oracle")
+                    ? "select " + sequence + ".nextval from dual"
+                    : "select next value for " + sequence);
+        }
+
+        long next() throws SQLException {
+            if (next > last) {
+                last = nextValue();
+                // A fresh sequence starts at 1, which Hibernate treats as the start of a block rather than its end
+                if (last < ALLOCATION_SIZE) {
+                    last = nextValue();
+                }
+                next = last - ALLOCATION_SIZE + 1;
+            }
+            return next++;
+        }
+
+        private long nextValue() throws SQLException {
+            try (ResultSet resultSet = nextValue.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            nextValue.close();
+        }
+    }
+}
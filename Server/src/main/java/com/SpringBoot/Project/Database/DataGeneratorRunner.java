@@ -0,0 +1,55 @@
+package com.SpringBoot.Project.Database;
+
+import com.SpringBoot.Project.Analytics.LeaveAggregatesRebuild;
+import com.SpringBoot.Project.Analytics.ParallelRebuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// Runs the DataGenerator against the configured datasource when the "generate-data" profile is active:
+//   mvn spring-boot:run -Dspring-boot.run.profiles=generate-data -Dspring-boot.run.arguments=--app.generator.employees=50000
+// Settings are the app.generator.* properties in application-generate-data.properties. The generated history
+// bypasses LeaveRequestService, so the leave statistics are rebuilt afterwards.
+@Component
+@Profile("generate-data")
+public class DataGeneratorRunner implements ApplicationRunner {
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final ParallelRebuilder parallelRebuilder;
+    private final LeaveAggregatesRebuild leaveAggregatesRebuild;
+    private final DataGenerator.Settings settings;
+    private final String password;
+
+    public DataGeneratorRunner(DataSource dataSource,
+                               PasswordEncoder passwordEncoder,
+                               ParallelRebuilder parallelRebuilder,
+                               LeaveAggregatesRebuild leaveAggregatesRebuild,
+                               @Value("${app.generator.seed:42}") long seed,
+                               @Value("${app.generator.departments:50}") int departments,
+                               @Value("${app.generator.employees:10000}") int employees,
+                               @Value("${app.generator.years-of-history:3}") int yearsOfHistory,
+                               @Value("${app.generator.leaves-per-employee-per-year:4}") double leavesPerEmployeePerYear,
+                               @Value("${app.generator.username-prefix:gen}") String usernamePrefix,
+                               @Value("${app.generator.password:password}") String password,
+                               @Value("${app.generator.batch-size:1000}") int batchSize) {
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.parallelRebuilder = parallelRebuilder;
+        this.leaveAggregatesRebuild = leaveAggregatesRebuild;
+        this.password = password;
+        this.settings = new DataGenerator.Settings(seed, departments, employees, yearsOfHistory,
+                leavesPerEmployeePerYear, usernamePrefix, null, batchSize);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        new DataGenerator(dataSource).generate(settings.withPasswordHash(passwordEncoder.encode(password)));
+        parallelRebuilder.start(leaveAggregatesRebuild).completion().join();
+    }
+}
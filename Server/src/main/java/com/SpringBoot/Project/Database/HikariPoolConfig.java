@@ -0,0 +1,53 @@
+package com.SpringBoot.Project.Database;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Map;
+
+@Configuration
+public class HikariPoolConfig {
+
+    private static final Logger logger = LogManager.getLogger(HikariPoolConfig.class);
+
+    // Nearly every request blocks on Oracle, so the pool is what limits throughput. Past roughly two connections
+    // per core the database just context switches and the extra requests are better off queueing in the pool.
+    static int defaultPoolSize(int cores) {
+        return cores * 2 + 1;
+    }
+
+    // The pools the sizer looks after, by bean name, and the prefix each one's own settings are bound from. Boot's
+    // single pool is "dataSource", with a read replica configured (ReplicaRoutingConfig) there is one of each.
+    static final Map<String, String> POOL_PROPERTIES = Map.of(
+            "dataSource", "spring.datasource.hikari",
+            "primaryDataSource", "spring.datasource.hikari",
+            "replicaDataSource", "app.datasource.replica.hikari");
+
+    // Sizes each pool from the core count unless its own <prefix>.maximum-pool-size is set.
+    // Runs before initialization, after Boot has bound the pool's properties.
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                String prefix = POOL_PROPERTIES.get(beanName);
+                if (bean instanceof HikariDataSource dataSource && prefix != null
+                        && !environment.containsProperty(prefix + ".maximum-pool-size")) {
+                    int poolSize = defaultPoolSize(Runtime.getRuntime().availableProcessors());
+                    dataSource.setMaximumPoolSize(poolSize);
+                    // A fixed size pool, connections are never opened on the request path
+                    if (!environment.containsProperty(prefix + ".minimum-idle")) {
+                        dataSource.setMinimumIdle(poolSize);
+                    }
+                    logger.info("Connection pool {} sized to {} connections", dataSource.getPoolName(), poolSize);
+                }
+                return bean;
+            }
+        };
+    }
+}
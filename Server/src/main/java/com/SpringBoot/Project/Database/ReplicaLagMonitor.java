@@ -0,0 +1,87 @@
+package com.SpringBoot.Project.Database;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+// Decides whether the read replica may serve reads. Checked every app.datasource.replica.check-interval: the replica
+// must answer, and when app.datasource.replica.lag-query is set, report a lag (in seconds) of at most
+// app.datasource.replica.max-lag. Until the first check passes, and whenever one fails, reads go to the primary.
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LogManager.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+    private final JdbcTemplate jdbcTemplate;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, Duration timeout, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.jdbcTemplate.setQueryTimeout((int) Math.max(1, timeout.toSeconds()));
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.maxLag = maxLag;
+        Gauge.builder("app.datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("1 while read-only transactions are sent to the replica").register(meterRegistry);
+        Gauge.builder("app.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replica lag in seconds as of the last check, NaN when unknown")
+                .baseUnit("seconds").register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.check-interval:5000}")
+    public void check() {
+        String problem;
+        try {
+            problem = lagQuery == null ? ping() : lag();
+        } catch (RuntimeException | SQLException e) {
+            lagSeconds = Double.NaN;
+            problem = "unreachable: " + e.getMessage();
+        }
+        update(problem);
+    }
+
+    // The routing data source failed to get a replica connection, don't wait for the next check to stop using it
+    void markUnavailable(Exception cause) {
+        update("connection failed: " + cause.getMessage());
+    }
+
+    private String ping() throws SQLException {
+        try (Connection connection = replica.getConnection()) {
+            return connection.isValid((int) Math.max(1, jdbcTemplate.getQueryTimeout())) ? null : "connection not valid";
+        }
+    }
+
+    private String lag() {
+        Number lag = jdbcTemplate.queryForObject(lagQuery, Number.class);
+        lagSeconds = lag == null ? Double.NaN : lag.doubleValue();
+        if (lag == null) {
+            return "lag unknown";
+        }
+        return lagSeconds * 1000 > maxLag.toMillis() ? "lagging " + lagSeconds + "s behind" : null;
+    }
+
+    private synchronized void update(String problem) {
+        boolean nowAvailable = problem == null;
+        if (nowAvailable && !available) {
+            logger.info("Read replica available, read-only transactions go to the replica");
+        } else if (!nowAvailable && available) {
+            logger.warn("Read replica {}, read-only transactions fall back to the primary", problem);
+        }
+        available = nowAvailable;
+    }
+}
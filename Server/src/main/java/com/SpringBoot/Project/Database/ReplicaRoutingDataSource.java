@@ -0,0 +1,72 @@
+package com.SpringBoot.Project.Database;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+// Hands out replica connections to read-only transactions (@Transactional(readOnly = true), including Spring Data's
+// own finders when no other transaction is running) while ReplicaLagMonitor says the replica is usable, and primary
+// connections to everything else. Must sit behind a LazyConnectionDataSourceProxy: the transaction manager asks for
+// its connection before the transaction is flagged read-only, the proxy defers the choice to the first statement.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor monitor;
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+    private final Counter fallbackConnections;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor monitor, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.monitor = monitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+        this.primaryConnections = counter(meterRegistry, "primary", "Connections for read-write work");
+        this.replicaConnections = counter(meterRegistry, "replica", "Connections for read-only transactions");
+        this.fallbackConnections = counter(meterRegistry, "fallback",
+                "Connections for read-only transactions sent to the primary because the replica was unusable");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String route, String description) {
+        return Counter.builder("app.datasource.connections").tag("route", route)
+                .description(description).register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && monitor.isAvailable()
+                ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Route.PRIMARY) {
+            (TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? fallbackConnections : primaryConnections).increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            replicaConnections.increment();
+            return connection;
+        } catch (SQLException e) {
+            monitor.markUnavailable(e);
+            fallbackConnections.increment();
+            return primary.getConnection();
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.SpringBoot.Project.Dto;
+
+// Department without its employee list, as served by the reactive read API
+public record DepartmentRow(long departmentId, String name, String description) {
+}
@@ -0,0 +1,12 @@
+package com.SpringBoot.Project.Dto;
+
+//Flat row streamed by the employee export. Selected straight from the query so no entities (and none of their
+//eager associations) are loaded into the persistence context while exporting.
+public record EmployeeExportRow(long employeeId,
+                                String name,
+                                String email,
+                                long departmentId,
+                                String departmentName,
+                                String role,
+                                String username) {
+}
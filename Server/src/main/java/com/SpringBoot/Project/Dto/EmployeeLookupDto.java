@@ -0,0 +1,42 @@
+package com.SpringBoot.Project.Dto;
+
+import com.SpringBoot.Project.Models.Employee;
+
+public class EmployeeLookupDto {
+    private long id;
+    private boolean found;
+    private Employee employee;
+
+    public EmployeeLookupDto() {
+    }
+
+    public EmployeeLookupDto(long id, Employee employee) {
+        this.id = id;
+        this.found = employee != null;
+        this.employee = employee;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public boolean isFound() {
+        return found;
+    }
+
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(Employee employee) {
+        this.employee = employee;
+    }
+}
@@ -0,0 +1,11 @@
+package com.SpringBoot.Project.Dto;
+
+import java.time.YearMonth;
+
+//One department and month of the approved leave report, read from leave_stats_department_month.
+public record LeaveDaysByDepartmentRow(long departmentId,
+                                       String departmentName,
+                                       YearMonth month,
+                                       long approvedRequests,
+                                       long approvedDays) {
+}
@@ -0,0 +1,21 @@
+package com.SpringBoot.Project.Dto;
+
+import com.SpringBoot.Project.Models.Status;
+
+import java.time.LocalDate;
+
+//Published by LeaveRequestService after a leave request is submitted or updated, and pushed to the SSE stream
+public record LeaveRequestChange(Type type,
+                                 long leaveRequestId,
+                                 long employeeId,
+                                 long departmentId,
+                                 Status status,
+                                 String decidedBy,
+                                 LocalDate startDate,
+                                 LocalDate endDate) {
+
+    public enum Type {
+        CREATED,
+        UPDATED
+    }
+}
@@ -0,0 +1,17 @@
+package com.SpringBoot.Project.Dto;
+
+import com.SpringBoot.Project.Models.Status;
+
+import java.time.LocalDate;
+
+//Flat row streamed by the leave history export, see EmployeeExportRow.
+public record LeaveRequestExportRow(long id,
+                                    long employeeId,
+                                    String employeeName,
+                                    long departmentId,
+                                    LocalDate startDate,
+                                    LocalDate endDate,
+                                    Status status,
+                                    String reason,
+                                    String managerComment) {
+}
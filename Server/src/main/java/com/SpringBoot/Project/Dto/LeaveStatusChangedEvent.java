@@ -0,0 +1,16 @@
+package com.SpringBoot.Project.Dto;
+
+import com.SpringBoot.Project.Models.Status;
+
+import java.time.LocalDate;
+
+//Payload of the LEAVE_STATUS_CHANGED outbox events. previousStatus is null for a newly submitted request.
+public record LeaveStatusChangedEvent(long leaveRequestId,
+                                      long employeeId,
+                                      long departmentId,
+                                      Status previousStatus,
+                                      Status status,
+                                      String decidedBy,
+                                      LocalDate startDate,
+                                      LocalDate endDate) {
+}
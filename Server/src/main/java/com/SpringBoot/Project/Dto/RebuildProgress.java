@@ -0,0 +1,23 @@
+package com.SpringBoot.Project.Dto;
+
+//Snapshot of a derived data rebuild, see Analytics/ParallelRebuilder. The summary describes the swapped in result
+//once the rebuild completed, or the error it failed with.
+public record RebuildProgress(String name,
+                              State state,
+                              int partitions,
+                              int partitionsCompleted,
+                              long rowsRead,
+                              long elapsedMillis,
+                              String summary) {
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+
+    public boolean isDone() {
+        return state != State.RUNNING;
+    }
+}
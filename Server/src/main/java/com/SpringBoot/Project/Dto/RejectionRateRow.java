@@ -0,0 +1,8 @@
+package com.SpringBoot.Project.Dto;
+
+//Decisions of one approving user over the requested months, read from leave_stats_manager_month.
+public record RejectionRateRow(String manager,
+                               long approved,
+                               long rejected,
+                               double rejectionRate) {
+}
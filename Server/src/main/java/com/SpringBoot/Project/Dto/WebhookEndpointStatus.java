@@ -0,0 +1,12 @@
+package com.SpringBoot.Project.Dto;
+
+//Delivery state of one webhook subscription since startup, pending counts queued, in flight and waiting to be retried
+public record WebhookEndpointStatus(long subscriptionId,
+                                    String url,
+                                    String circuit,
+                                    int pending,
+                                    int inFlight,
+                                    long delivered,
+                                    long failed,
+                                    long dropped) {
+}
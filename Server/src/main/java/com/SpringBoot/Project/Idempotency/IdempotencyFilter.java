@@ -0,0 +1,333 @@
+package com.SpringBoot.Project.Idempotency;
+
+import com.SpringBoot.Project.Exception.ErrorResponse;
+import com.SpringBoot.Project.Models.IdempotencyRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+
+// Honors the Idempotency-Key header on the POST endpoints it is registered for (app.idempotency.paths).
+//
+// The first request with a key runs and its response (status, content type, body) is stored, a retry with the same
+// key gets that response back with Idempotent-Replayed: true instead of running again. Keys are per caller, and a
+// retry must send the same query string and body, reusing a key for a different request is answered with 422.
+// Duplicates arriving while the first one is still running on this instance wait for its response, up to
+// app.idempotency.wait-timeout. A key held by another instance is answered with 409 and Retry-After straight away,
+// parking the request thread until the other instance is done would only tie up threads during a retry storm.
+//
+// The body is buffered for the fingerprint, bodies over app.idempotency.max-body-size are rejected with 413 before
+// that. 5xx responses and exceptions are not stored, the key is freed and a retry runs the request again. Requests
+// without the header are not affected.
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LogManager.getLogger(IdempotencyFilter.class);
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final Duration waitTimeout;
+    private final int maxBodyBytes;
+    private final Map<String, CompletableFuture<StoredResponse>> running = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter collapsed;
+    private final Counter conflicts;
+    private final Counter mismatches;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                             Duration waitTimeout, DataSize maxBodySize) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.waitTimeout = waitTimeout;
+        this.maxBodyBytes = (int) Math.min(maxBodySize.toBytes(), Integer.MAX_VALUE - 1);
+        this.executed = counter(meterRegistry, "executed", "Requests with an idempotency key that ran");
+        this.replayed = counter(meterRegistry, "replayed", "Retries answered with the stored response");
+        this.collapsed = counter(meterRegistry, "collapsed", "Concurrent duplicates that waited for the first request");
+        this.conflicts = counter(meterRegistry, "conflict", "Duplicates given up on while the first request was still running");
+        this.mismatches = counter(meterRegistry, "mismatch", "Keys reused for a different request");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome, String description) {
+        return Counter.builder("app.idempotency.requests").tag("outcome", outcome)
+                .description(description).register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String key = request.getHeader(HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            error(response, HttpServletResponse.SC_BAD_REQUEST, "Invalid " + HEADER,
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        // Turned away on the declared length when there is one, otherwise after reading one byte past the limit
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            tooLarge(response);
+            return;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            tooLarge(response);
+            return;
+        }
+        BufferedBodyRequest bufferedRequest = new BufferedBodyRequest(request, body);
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String storageKey = sha256((caller() + '\n' + request.getMethod() + ' ' + path + '\n' + key).getBytes(StandardCharsets.UTF_8));
+        String fingerprint = fingerprint(request.getQueryString(), bufferedRequest.body);
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (true) {
+            StoredResponse stored = idempotencyStore.cached(storageKey);
+            if (stored != null) {
+                replay(stored, fingerprint, response);
+                return;
+            }
+
+            CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> first = running.putIfAbsent(storageKey, mine);
+            if (first != null) {
+                // Running on this instance, wait for its response rather than going to the database
+                StoredResponse result;
+                try {
+                    result = first.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException | ExecutionException e) {
+                    conflict(response);
+                    return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    conflict(response);
+                    return;
+                }
+                if (result != null) {
+                    collapsed.increment();
+                    replay(result, fingerprint, response);
+                    return;
+                }
+                // It failed and freed the key, or found the key held elsewhere: look again
+                continue;
+            }
+
+            IdempotencyRecord record;
+            try {
+                record = idempotencyStore.claim(storageKey, fingerprint);
+            } catch (RuntimeException e) {
+                running.remove(storageKey, mine);
+                mine.complete(null);
+                throw e;
+            }
+            if (record == null) {
+                execute(bufferedRequest, response, filterChain, storageKey, fingerprint, mine);
+                return;
+            }
+            running.remove(storageKey, mine);
+            if (record.isCompleted()) {
+                StoredResponse result = StoredResponse.of(record);
+                mine.complete(result);
+                replay(result, fingerprint, response);
+                return;
+            }
+            mine.complete(null);
+
+            // Running on another instance, the client retries after Retry-After
+            conflict(response);
+            return;
+        }
+    }
+
+    private void execute(BufferedBodyRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String storageKey, String fingerprint, CompletableFuture<StoredResponse> mine) throws ServletException, IOException {
+        executed.increment();
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        StoredResponse result = null;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            if (responseWrapper.getStatus() < 500) {
+                result = new StoredResponse(fingerprint, responseWrapper.getStatus(), responseWrapper.getContentType(),
+                        new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8), idempotencyStore.expiresAt());
+                try {
+                    idempotencyStore.complete(storageKey, result);
+                } catch (RuntimeException e) {
+                    // The request did run, so the key is not freed: retries get 409 until app.idempotency.lock-timeout
+                    logger.error("Failed to store the response for idempotency key {}", storageKey, e);
+                }
+            }
+        } finally {
+            if (result == null) {
+                try {
+                    idempotencyStore.release(storageKey);
+                } catch (RuntimeException e) {
+                    logger.error("Failed to free idempotency key {}", storageKey, e);
+                }
+            }
+            running.remove(storageKey, mine);
+            mine.complete(result);
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(StoredResponse stored, String fingerprint, HttpServletResponse response) throws IOException {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            mismatches.increment();
+            error(response, 422, HEADER + " reused",
+                    "The key was already used for a request with different parameters or body");
+            return;
+        }
+        replayed.increment();
+        byte[] body = stored.body().getBytes(StandardCharsets.UTF_8);
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void conflict(HttpServletResponse response) throws IOException {
+        conflicts.increment();
+        response.setHeader("Retry-After", "1");
+        error(response, HttpServletResponse.SC_CONFLICT, "Request in progress",
+                "A request with this " + HEADER + " is still being processed");
+    }
+
+    private void tooLarge(HttpServletResponse response) throws IOException {
+        error(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "Request body too large",
+                "Requests with an " + HEADER + " are limited to " + maxBodyBytes + " bytes");
+    }
+
+    private void error(HttpServletResponse response, int status, String message, String details) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(new Date(), message, details));
+    }
+
+    // Keys are scoped to the caller, two users sending the same key don't see each other's responses
+    private static String caller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "" : authentication.getName();
+    }
+
+    private static String fingerprint(String queryString, byte[] body) {
+        MessageDigest digest = sha256();
+        digest.update((queryString == null ? "" : queryString).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+        return HexFormat.of().formatHex(digest.digest(body));
+    }
+
+    private static String sha256(byte[] value) {
+        return HexFormat.of().formatHex(sha256().digest(value));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // The body is read up front for the fingerprint and handed to the controller from memory
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                private ReadListener listener;
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // As the Servlet spec has it: only for async requests and only once. The whole body is already
+                    // in memory, so the listener is told right away that it can read it all.
+                    Objects.requireNonNull(readListener, "readListener");
+                    if (!isAsyncStarted()) {
+                        throw new IllegalStateException("Non-blocking read requires an async request");
+                    }
+                    if (listener != null) {
+                        throw new IllegalStateException("ReadListener already set");
+                    }
+                    listener = readListener;
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
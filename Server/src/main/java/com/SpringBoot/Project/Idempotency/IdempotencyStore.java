@@ -0,0 +1,145 @@
+package com.SpringBoot.Project.Idempotency;
+
+import com.SpringBoot.Project.Models.IdempotencyRecord;
+import com.SpringBoot.Project.Repositories.IdempotencyRecordInterface;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// Idempotency keys in the idempotency_key table, shared by all instances, with the completed responses this
+// instance stored or read kept in a small LRU cache in front of it so that retries usually don't reach the database.
+//
+// A key is claimed by inserting its row before the request runs, the primary key makes sure only one instance wins.
+// A claimed key whose request never completed (the instance died) is taken over after app.idempotency.lock-timeout,
+// any key after app.idempotency.ttl.
+@Component
+public class IdempotencyStore {
+
+    private static final Logger logger = LogManager.getLogger(IdempotencyStore.class);
+
+    // Claims lost to another instance's insert are read back, this bounds how often
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+
+    private final IdempotencyRecordInterface idempotencyRecordInterface;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Map<String, StoredResponse> cache;
+
+    public IdempotencyStore(IdempotencyRecordInterface idempotencyRecordInterface,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${app.idempotency.lock-timeout:1m}") Duration lockTimeout,
+                            @Value("${app.idempotency.cache-size:10000}") int cacheSize) {
+        this.idempotencyRecordInterface = idempotencyRecordInterface;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+        int maxEntries = Math.max(1, cacheSize);
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    // The completed response for the key if this instance has it at hand, no database access
+    public StoredResponse cached(String key) {
+        StoredResponse stored = cache.get(key);
+        if (stored != null && stored.expiresAt().isBefore(now())) {
+            cache.remove(key);
+            return null;
+        }
+        return stored;
+    }
+
+    // Claims the key for a request that is about to run. Returns null when the caller got it, otherwise the record
+    // holding the key: completed, or still running (on this or another instance).
+    public IdempotencyRecord claim(String key, String fingerprint) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> tryClaim(key, fingerprint));
+            } catch (DataIntegrityViolationException e) {
+                // Inserted by someone else since we looked, read theirs
+                if (attempt >= MAX_CLAIM_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private IdempotencyRecord tryClaim(String key, String fingerprint) {
+        LocalDateTime now = now();
+        Optional<IdempotencyRecord> existing = idempotencyRecordInterface.findById(key);
+        if (existing.isEmpty()) {
+            idempotencyRecordInterface.saveAndFlush(new IdempotencyRecord(key, fingerprint, now, now.plus(ttl)));
+            return null;
+        }
+        IdempotencyRecord record = existing.get();
+        boolean expired = record.getExpiresAt().isBefore(now);
+        boolean abandoned = !record.isCompleted() && record.getCreatedAt().plus(lockTimeout).isBefore(now);
+        if (!expired && !abandoned) {
+            if (record.isCompleted()) {
+                cache.put(key, StoredResponse.of(record));
+            }
+            return record;
+        }
+        if (abandoned) {
+            logger.warn("Taking over idempotency key {}, its request started at {} never completed", key, record.getCreatedAt());
+        }
+        boolean reclaimed = idempotencyRecordInterface.reclaim(key, record.getCreatedAt(), fingerprint, now, now.plus(ttl)) == 1;
+        return reclaimed ? null : record;
+    }
+
+    // Stores the response of the request that claimed the key
+    public void complete(String key, StoredResponse response) {
+        Integer updated = transactionTemplate.execute(status -> idempotencyRecordInterface.complete(
+                key, response.status(), response.contentType(), response.body()));
+        if (updated == null || updated == 0) {
+            logger.warn("Idempotency key {} was taken over before its request completed", key);
+            return;
+        }
+        cache.put(key, response);
+    }
+
+    // Frees a claimed key without a response, so that a retry runs the request again
+    public void release(String key) {
+        transactionTemplate.execute(status -> idempotencyRecordInterface.release(key));
+    }
+
+    // When a response stored now expires
+    public LocalDateTime expiresAt() {
+        return now().plus(ttl);
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:3600000}", initialDelayString = "${app.idempotency.purge-interval:3600000}")
+    public void purge() {
+        try {
+            Integer removed = transactionTemplate.execute(status -> idempotencyRecordInterface.deleteExpired(now()));
+            if (removed != null && removed > 0) {
+                logger.info("Removed {} expired idempotency keys", removed);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Idempotency key purge failed", e);
+        }
+    }
+
+    // Truncated to what a timestamp(6) column keeps, reclaim() compares createdAt as read back
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,18 @@
+package com.SpringBoot.Project.Idempotency;
+
+import com.SpringBoot.Project.Models.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+
+// What is replayed for a retried request: status, content type and body. Other headers are not kept.
+public record StoredResponse(String fingerprint,
+                             int status,
+                             String contentType,
+                             String body,
+                             LocalDateTime expiresAt) {
+
+    static StoredResponse of(IdempotencyRecord record) {
+        return new StoredResponse(record.getFingerprint(), record.getStatusCode(), record.getContentType(),
+                record.getBody() == null ? "" : record.getBody(), record.getExpiresAt());
+    }
+}
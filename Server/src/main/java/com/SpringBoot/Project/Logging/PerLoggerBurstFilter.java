@@ -0,0 +1,103 @@
+package com.SpringBoot.Project.Logging;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.filter.AbstractFilter;
+import org.apache.logging.log4j.message.Message;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Log4j's BurstFilter, but with a budget per logger name instead of one for everything it sees. Put on a parent
+// logger it gives each child logger maxBurst events up front and rate per second after that, so one busy logger
+// can't use up the budget of the others. Events more severe than level always pass.
+//
+// Each budget is a single AtomicLong (the generic cell rate algorithm): the time the next event is due, allowed to
+// run up to maxBurst intervals ahead of now. No locks and no allocation once a logger has been seen.
+@Plugin(name = "PerLoggerBurstFilter", category = Node.CATEGORY, elementType = Filter.ELEMENT_TYPE, printObject = true)
+public final class PerLoggerBurstFilter extends AbstractFilter {
+
+    private final Level level;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final Map<String, AtomicLong> budgets = new ConcurrentHashMap<>();
+
+    private PerLoggerBurstFilter(Level level, float rate, long maxBurst, Result onMatch, Result onMismatch) {
+        super(onMatch, onMismatch);
+        this.level = level;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        this.toleranceNanos = intervalNanos * (maxBurst - 1);
+    }
+
+    @PluginFactory
+    public static PerLoggerBurstFilter createFilter(
+            @PluginAttribute(value = "level") Level level,
+            @PluginAttribute(value = "rate", defaultFloat = 10) float rate,
+            @PluginAttribute(value = "maxBurst", defaultLong = 100) long maxBurst,
+            @PluginAttribute(value = "onMatch") Result onMatch,
+            @PluginAttribute(value = "onMismatch") Result onMismatch) {
+        return new PerLoggerBurstFilter(level == null ? Level.INFO : level, rate <= 0 ? 10 : rate,
+                Math.max(1, maxBurst), onMatch == null ? Result.NEUTRAL : onMatch,
+                onMismatch == null ? Result.DENY : onMismatch);
+    }
+
+    @Override
+    public Result filter(LogEvent event) {
+        return filter(event.getLoggerName(), event.getLevel());
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object... params) {
+        return filter(logger.getName(), level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, Object msg, Throwable t) {
+        return filter(logger.getName(), level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, Message msg, Throwable t) {
+        return filter(logger.getName(), level);
+    }
+
+    private Result filter(String loggerName, Level eventLevel) {
+        if (!level.isMoreSpecificThan(eventLevel)) {
+            return onMatch;
+        }
+        return tryAcquire(loggerName) ? onMatch : onMismatch;
+    }
+
+    private boolean tryAcquire(String loggerName) {
+        AtomicLong due = budgets.get(loggerName);
+        if (due == null) {
+            due = budgets.computeIfAbsent(loggerName, name -> new AtomicLong(System.nanoTime()));
+        }
+        long now = System.nanoTime();
+        while (true) {
+            long current = due.get();
+            // Differences rather than comparisons, nanoTime may be negative or wrap
+            if (current - toleranceNanos - now > 0) {
+                return false;
+            }
+            long next = (current - now > 0 ? current : now) + intervalNanos;
+            if (due.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "level=" + level + ", interval=" + intervalNanos + "ns, tolerance=" + toleranceNanos + "ns";
+    }
+}
@@ -0,0 +1,16 @@
+package com.SpringBoot.Project.Logging;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+// Loggers for per-request success lines, named "sampled.<class>". log4j2.xml rate limits everything under "sampled"
+// with a PerLoggerBurstFilter, each class against its own budget, so new classes need no logging config of their own.
+public final class SampledLoggers {
+
+    private SampledLoggers() {
+    }
+
+    public static Logger forClass(Class<?> type) {
+        return LogManager.getLogger("sampled." + type.getName());
+    }
+}
@@ -0,0 +1,98 @@
+package com.SpringBoot.Project.Metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Called by datasource-proxy after every JDBC statement. Records a latency histogram per statement type,
+// writes statements slower than the threshold (with their bind parameters) to the slow query log
+// and counts statements for the request that is running on the current thread.
+public class QueryMetricsListener implements QueryExecutionListener {
+
+    public static final String TIMER_NAME = "app.jdbc.query.duration";
+
+    // Goes to its own file, see the "slowquery" logger in log4j2.xml
+    private static final Logger slowQueryLogger = LogManager.getLogger("slowquery");
+
+    // Only set while StatementCountFilter is handling a request on this thread
+    private static final ThreadLocal<int[]> requestStatements = new ThreadLocal<>();
+
+    private final MeterRegistry registry;
+    private final long slowQueryThresholdMillis;
+    private final Map<QueryType, Timer> successTimers = new EnumMap<>(QueryType.class);
+    private final Map<QueryType, Timer> failureTimers = new EnumMap<>(QueryType.class);
+
+    public QueryMetricsListener(MeterRegistry registry, Duration slowQueryThreshold) {
+        this.registry = registry;
+        this.slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+        for (QueryType type : QueryType.values()) {
+            successTimers.put(type, timer(type, "success"));
+            failureTimers.put(type, timer(type, "error"));
+        }
+    }
+
+    private Timer timer(QueryType type, String outcome) {
+        return Timer.builder(TIMER_NAME)
+                .description("Execution time of JDBC statements")
+                .tag("type", type.name().toLowerCase())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        int[] statements = requestStatements.get();
+        if (statements != null) {
+            statements[0]++;
+        }
+
+        QueryType type = queryInfoList.isEmpty() ? QueryType.OTHER : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+        (execInfo.isSuccess() ? successTimers : failureTimers).get(type)
+                .record(execInfo.getElapsedTime(), TimeUnit.MILLISECONDS);
+
+        if (execInfo.getElapsedTime() >= slowQueryThresholdMillis && slowQueryLogger.isWarnEnabled()) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                slowQueryLogger.warn("{} ms{} | {} | params={}", execInfo.getElapsedTime(),
+                        execInfo.isBatch() ? " batch of " + execInfo.getBatchSize() : "",
+                        queryInfo.getQuery(), formatParameters(queryInfo));
+            }
+        }
+    }
+
+    private static String formatParameters(QueryInfo queryInfo) {
+        // One entry per batch element, each holding the values in the order they were bound
+        return queryInfo.getParametersList().stream()
+                .map(parameters -> parameters.stream()
+                        .map(parameter -> String.valueOf(parameter.getArgs()[1]))
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(", "));
+    }
+
+    static void startCounting() {
+        requestStatements.set(new int[1]);
+    }
+
+    static int stopCounting() {
+        int[] statements = requestStatements.get();
+        requestStatements.remove();
+        return statements == null ? 0 : statements[0];
+    }
+}
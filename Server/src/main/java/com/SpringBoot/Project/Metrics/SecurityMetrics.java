@@ -0,0 +1,25 @@
+package com.SpringBoot.Project.Metrics;
+
+import com.SpringBoot.Project.Security.JwtGenerator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+// Publishes the counters kept by the security classes, which stay free of any Micrometer dependency
+@Component
+public class SecurityMetrics implements MeterBinder {
+
+    private final JwtGenerator jwtGenerator;
+
+    public SecurityMetrics(JwtGenerator jwtGenerator) {
+        this.jwtGenerator = jwtGenerator;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("app.jwt.invalid", jwtGenerator, JwtGenerator::getInvalidTokenCount)
+                .description("Expired, malformed or tampered JWTs rejected by the authentication filter")
+                .register(registry);
+    }
+}
@@ -0,0 +1,92 @@
+package com.SpringBoot.Project.Metrics;
+
+import com.SpringBoot.Project.Models.Result;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Times every public method of the Services package and counts the Result outcomes it returns.
+// The HTTP side (every controller method) is already timed by Spring MVC as http.server.requests.
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    public static final String TIMER_NAME = "app.service.duration";
+    public static final String RESULT_COUNTER_NAME = "app.service.results";
+
+    static final String SUCCESS = "success";
+    static final String FAILURE = "failure";
+    static final String ERROR = "error";
+
+    private final MeterRegistry registry;
+
+    // Meters are looked up once per method instead of rebuilding tags on every call
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.SpringBoot.Project.Services..*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        MethodMeters methodMeters = meters.computeIfAbsent(signature.getMethod(),
+                method -> new MethodMeters(joinPoint.getTarget().getClass().getSimpleName(), method.getName()));
+
+        long start = System.nanoTime();
+        String outcome = ERROR;
+        try {
+            Object returned = joinPoint.proceed();
+            if (returned instanceof Result<?> result) {
+                outcome = result.isSuccess() ? SUCCESS : FAILURE;
+                methodMeters.results(outcome).increment();
+            } else {
+                outcome = SUCCESS;
+            }
+            return returned;
+        } finally {
+            methodMeters.timer(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private final class MethodMeters {
+        private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+        private final Map<String, Counter> results = new ConcurrentHashMap<>();
+        private final String className;
+        private final String methodName;
+
+        private MethodMeters(String className, String methodName) {
+            this.className = className;
+            this.methodName = methodName;
+        }
+
+        private Timer timer(String outcome) {
+            return timers.computeIfAbsent(outcome, o -> Timer.builder(TIMER_NAME)
+                    .description("Time spent in service methods")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("outcome", o)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+
+        private Counter results(String outcome) {
+            return results.computeIfAbsent(outcome, o -> Counter.builder(RESULT_COUNTER_NAME)
+                    .description("Service calls by Result outcome")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("outcome", o)
+                    .register(registry));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.SpringBoot.Project.Metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Records how many JDBC statements each request ran, tagged with the matched URI pattern.
+// A jump here is usually an N+1 query that slipped into an endpoint.
+//
+// Statements are counted on the request thread. Async requests (the CSV exports, the leave stream) run their
+// queries on other threads after the request thread has returned, so they are left out rather than recorded as
+// running next to nothing.
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    public static final String SUMMARY_NAME = "app.jdbc.statements.per.request";
+
+    // Built once, each method and uri pair is registered the first time it's seen and looked up after that
+    private final Meter.MeterProvider<DistributionSummary> statementsPerRequest;
+
+    public StatementCountFilter(MeterRegistry registry) {
+        this.statementsPerRequest = DistributionSummary.builder(SUMMARY_NAME)
+                .description("JDBC statements executed per HTTP request")
+                .publishPercentileHistogram()
+                .withRegistry(registry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        QueryMetricsListener.startCounting();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = QueryMetricsListener.stopCounting();
+            if (!request.isAsyncStarted()) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                statementsPerRequest.withTags("method", request.getMethod(),
+                        "uri", pattern == null ? "UNKNOWN" : pattern.toString()).record(statements);
+            }
+        }
+    }
+}
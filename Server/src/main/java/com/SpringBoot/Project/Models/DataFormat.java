@@ -0,0 +1,24 @@
+package com.SpringBoot.Project.Models;
+
+import java.util.Locale;
+
+//Line oriented formats used by the bulk import and export endpoints.
+public enum DataFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    DataFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    //Case-insensitive lookup for ?format= request parameters
+    public static DataFormat fromParameter(String value) {
+        return DataFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
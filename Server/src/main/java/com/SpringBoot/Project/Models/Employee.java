@@ -1,4 +1,5 @@
 package com.SpringBoot.Project.Models;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 
@@ -8,8 +9,11 @@ import java.util.Objects;
 public class Employee {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) //Is used to automatically generate unique values
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_seq") //Is used to automatically generate unique values
     // for the primary key column in the database. So employeeId does not need to be initialized in constructor.
+    // A sequence (rather than IDENTITY) lets Hibernate hand out ids before the INSERT, so inserts can be sent to
+    // Oracle in JDBC batches. allocationSize must match the sequence's INCREMENT BY (pooled optimizer).
+    @SequenceGenerator(name = "employee_seq", sequenceName = "employee_seq", allocationSize = 50)
     private long employeeId;
 
     @NotNull(message = "Name cannot be null")
@@ -25,6 +29,7 @@ public class Employee {
     //Used for establishing a relationship between 2 tables, joins many rows into one row.
     @ManyToOne
     @JoinColumn(name = "department_id", nullable = false) //Joins at the specific foreign key column name.
+    @JsonIgnoreProperties("employees") //Otherwise employee -> department -> employees -> employee recurses forever when serialized.
     private Department department;
 
     @ManyToOne
@@ -0,0 +1,91 @@
+package com.SpringBoot.Project.Models;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// The stored response of a request sent with an Idempotency-Key header, see the Idempotency package
+@Entity
+@Table(name = "idempotency_key")
+public class IdempotencyRecord {
+
+    // SHA-256 of the caller, method, path and key, assigned by IdempotencyStore
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    // Null while the request that claimed the key is still running
+    @Column
+    private Integer statusCode;
+
+    @Column
+    private String contentType;
+
+    @Lob
+    @Column
+    private String body;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public IdempotencyRecord() {
+        //Default constructor for JPA
+    }
+
+    public IdempotencyRecord(String id, String fingerprint, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.id = id;
+        this.fingerprint = fingerprint;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isCompleted() {
+        return statusCode != null;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public Integer getStatusCode() {
+        return statusCode;
+    }
+
+    public void setStatusCode(Integer statusCode) {
+        this.statusCode = statusCode;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public void setBody(String body) {
+        this.body = body;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
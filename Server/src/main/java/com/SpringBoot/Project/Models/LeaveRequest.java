@@ -9,7 +9,8 @@ import java.time.LocalDate;
 public class LeaveRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leave_request_seq")
+    @SequenceGenerator(name = "leave_request_seq", sequenceName = "leave_request_seq", allocationSize = 50)
     private long id;
 
     @ManyToOne
@@ -37,6 +38,10 @@ public class LeaveRequest {
     @Column
     private String managerComment;
 
+    // Username of whoever approved or rejected the request, set by LeaveRequestService
+    @Column
+    private String decidedBy;
+
     public LeaveRequest(){
         //Default constructor for JPA
     }
@@ -50,6 +55,10 @@ public class LeaveRequest {
         this.managerComment = managerComment;
     }
 
+    public long getId() {
+        return id;
+    }
+
     public Employee getEmployee() {
         return employee;
     }
@@ -97,4 +106,12 @@ public class LeaveRequest {
     public void setManagerComment(String managerComment) {
         this.managerComment = managerComment;
     }
+
+    public String getDecidedBy() {
+        return decidedBy;
+    }
+
+    public void setDecidedBy(String decidedBy) {
+        this.decidedBy = decidedBy;
+    }
 }
@@ -0,0 +1,84 @@
+package com.SpringBoot.Project.Models;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// One row of the transactional outbox, see the Outbox package. Written with the change it describes and published
+// to the sinks afterwards by OutboxRelay.
+@Entity
+@Table(name = "leave_event_outbox")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leave_event_outbox_seq")
+    // Ids order the events, so they are drawn one at a time while the employee is locked rather than from a cached block
+    @SequenceGenerator(name = "leave_event_outbox_seq", sequenceName = "leave_event_outbox_seq", allocationSize = 1)
+    private long id;
+
+    // Events are delivered in id order per employee
+    @Column(nullable = false)
+    private long employeeId;
+
+    @Column(nullable = false, length = 64)
+    private String eventType;
+
+    // JSON document handed to the sinks as is
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    public OutboxEvent() {
+        //Default constructor for JPA
+    }
+
+    public OutboxEvent(long employeeId, String eventType, String payload, LocalDateTime createdAt) {
+        this.employeeId = employeeId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getEmployeeId() {
+        return employeeId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
@@ -12,17 +12,20 @@ import java.util.List;
 //Automatically creates getters and setters with the lombok dependency
 public class UserEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_entity_seq")
+    @SequenceGenerator(name = "user_entity_seq", sequenceName = "user_entity_seq", allocationSize = 50)
     private int id;
 
     @NotNull(message = "Username cannot be null")
+    @Column(nullable = false, unique = true)
     private String username;
 
     @NotNull(message = "Password cannot be null")
     private String password;
 
     //this is joining the columns of the tables for role and user to create a new table user_roles
-    @ManyToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    //Roles are shared reference data, so nothing is cascaded to them (persisting a user must not try to insert its roles)
+    @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id", referencedColumnName = "id"),
         inverseJoinColumns = @JoinColumn(name = "role_id", referencedColumnName = "id")
     )
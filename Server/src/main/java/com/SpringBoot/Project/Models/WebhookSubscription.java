@@ -0,0 +1,86 @@
+package com.SpringBoot.Project.Models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+// An endpoint that receives leave events as webhooks, see the Webhooks package
+@Entity
+@Table(name = "webhook_subscription")
+public class WebhookSubscription {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "webhook_subscription_seq")
+    @SequenceGenerator(name = "webhook_subscription_seq", sequenceName = "webhook_subscription_seq", allocationSize = 1)
+    private long id;
+
+    @NotNull(message = "URL cannot be Null")
+    @Column(nullable = false, length = 2000)
+    private String url;
+
+    // Never returned once stored
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    @Column
+    private String secret;
+
+    // Comma separated outbox event types, null or empty for all of them
+    @Column
+    private String eventTypes;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public WebhookSubscription() {
+        //Default constructor for JPA
+    }
+
+    public WebhookSubscription(String url, String secret, String eventTypes) {
+        this.url = url;
+        this.secret = secret;
+        this.eventTypes = eventTypes;
+    }
+
+    public boolean accepts(String eventType) {
+        return eventTypes == null || eventTypes.isBlank()
+                || Arrays.stream(eventTypes.split(",")).anyMatch(type -> type.trim().equals(eventType));
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+
+    public String getEventTypes() {
+        return eventTypes;
+    }
+
+    public void setEventTypes(String eventTypes) {
+        this.eventTypes = eventTypes;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
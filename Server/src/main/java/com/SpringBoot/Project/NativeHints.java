@@ -0,0 +1,89 @@
+package com.SpringBoot.Project;
+
+import com.SpringBoot.Project.Dto.*;
+import com.SpringBoot.Project.Models.*;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+
+import java.util.List;
+
+// Reflection and resource hints for the native image (mvn -Pnative native:compile).
+// Spring AOT covers the beans, controllers and JPA metamodel; this adds what is loaded by name or read as a file.
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    // jjwt-api creates its implementation classes by name
+    private static final List<String> JJWT_CLASSES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.crypto.MacProvider",
+            "io.jsonwebtoken.impl.crypto.RsaProvider",
+            "io.jsonwebtoken.impl.crypto.EllipticCurveProvider",
+            "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    // Log4j instantiates the context selector and every element of log4j2.xml through its plugin registry
+    private static final List<String> LOG4J_CLASSES = List.of(
+            "org.apache.logging.log4j.core.async.AsyncLoggerContextSelector",
+            "org.apache.logging.log4j.core.appender.ConsoleAppender",
+            "org.apache.logging.log4j.core.appender.RollingRandomAccessFileAppender",
+            "org.apache.logging.log4j.core.appender.rolling.TimeBasedTriggeringPolicy",
+            "org.apache.logging.log4j.core.appender.rolling.SizeBasedTriggeringPolicy",
+            "org.apache.logging.log4j.core.appender.rolling.CompositeTriggeringPolicy",
+            "org.apache.logging.log4j.core.appender.rolling.DefaultRolloverStrategy",
+            "org.apache.logging.log4j.core.appender.rolling.action.DeleteAction",
+            "org.apache.logging.log4j.core.appender.rolling.action.IfFileName",
+            "org.apache.logging.log4j.core.appender.rolling.action.IfLastModified",
+            "org.apache.logging.log4j.core.filter.BurstFilter",
+            "com.SpringBoot.Project.Logging.PerLoggerBurstFilter",
+            "org.apache.logging.log4j.core.layout.PatternLayout",
+            "org.apache.logging.log4j.core.config.AppenderRef",
+            "org.apache.logging.log4j.core.config.LoggerConfig",
+            "org.apache.logging.log4j.core.config.LoggerConfig$RootLogger",
+            "org.apache.logging.log4j.core.config.LoggersPlugin",
+            "org.apache.logging.log4j.core.config.AppendersPlugin",
+            "org.apache.logging.log4j.core.config.PropertiesPlugin",
+            "org.apache.logging.log4j.core.config.Property",
+            "org.apache.logging.log4j.core.config.plugins.convert.TypeConverters");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String className : JJWT_CLASSES) {
+            hints.reflection().registerType(TypeReference.of(className), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+        for (String className : LOG4J_CLASSES) {
+            hints.reflection().registerType(TypeReference.of(className), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS, MemberCategory.DECLARED_FIELDS);
+        }
+
+        // Row types built by JPQL constructor expressions and everything serialized to or from JSON
+        BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+        bindings.registerReflectionHints(hints.reflection(),
+                Result.class, Department.class, Employee.class, LeaveRequest.class, Roles.class, UserEntity.class,
+                Status.class, AuthResponseDto.class, LoginDto.class, RegisterDto.class, DepartmentRow.class,
+                EmployeeExportRow.class, LeaveRequestExportRow.class, EmployeeImportReportDto.class,
+                EmployeeLookupDto.class, LeaveDaysByDepartmentRow.class, RejectionRateRow.class,
+                RebuildProgress.class, LeaveStatusChangedEvent.class, LeaveRequestChange.class,
+                WebhookSubscription.class, WebhookEndpointStatus.class);
+        hints.reflection().registerType(EmployeeExportRow.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(LeaveRequestExportRow.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        hints.resources()
+                .registerPattern("log4j2.xml")
+                .registerPattern("log4j2.component.properties")
+                .registerPattern("META-INF/org/apache/logging/log4j/core/config/plugins/Log4j2Plugins.dat")
+                .registerPattern("META-INF/services/io.jsonwebtoken.io.*")
+                // Boot only registers db/migration/*, the migrations live one level down per vendor
+                .registerPattern("db/migration/*/*.sql")
+                // springdoc serves the Swagger UI straight from the webjar
+                .registerPattern("META-INF/resources/webjars/swagger-ui/**");
+    }
+}
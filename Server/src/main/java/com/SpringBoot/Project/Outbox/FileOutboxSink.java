@@ -0,0 +1,54 @@
+package com.SpringBoot.Project.Outbox;
+
+import com.SpringBoot.Project.Models.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Appends events to a newline delimited JSON file, one OutboxEnvelope per line.
+// Meant for development and for systems that tail a file. Lines are flushed before publish returns, a crash
+// between the flush and the relay marking the events published repeats them, readers dedupe on "id".
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    // Not synchronized: a virtual thread blocked on the file write inside a monitor would pin its carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileOutboxSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return "file:" + file;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) throws IOException {
+        lock.lock();
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (OutboxEvent event : events) {
+                    writer.write(objectMapper.writeValueAsString(OutboxEnvelope.toJson(event, objectMapper)));
+                    writer.write('\n');
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
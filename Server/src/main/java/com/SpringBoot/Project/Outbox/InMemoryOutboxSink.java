@@ -0,0 +1,30 @@
+package com.SpringBoot.Project.Outbox;
+
+import com.SpringBoot.Project.Models.OutboxEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Keeps delivered events in memory, for tests and local runs (app.outbox.sink=memory)
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxEvent> events = new ArrayList<>();
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        this.events.addAll(events);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+
+    public synchronized List<OutboxEvent> events() {
+        return List.copyOf(events);
+    }
+}
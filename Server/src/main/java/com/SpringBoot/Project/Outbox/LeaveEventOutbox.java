@@ -0,0 +1,64 @@
+package com.SpringBoot.Project.Outbox;
+
+import com.SpringBoot.Project.Dto.LeaveStatusChangedEvent;
+import com.SpringBoot.Project.Models.Employee;
+import com.SpringBoot.Project.Models.LeaveRequest;
+import com.SpringBoot.Project.Models.OutboxEvent;
+import com.SpringBoot.Project.Models.Status;
+import com.SpringBoot.Project.Repositories.OutboxEventInterface;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+// Writes outbox rows as part of the caller's transaction, so an event exists exactly when the change it describes
+// was committed. Delivery happens later in OutboxRelay, away from the request thread.
+@Component
+public class LeaveEventOutbox {
+
+    public static final String SUBMITTED = "LEAVE_SUBMITTED";
+    public static final String STATUS_CHANGED = "LEAVE_STATUS_CHANGED";
+
+    private final OutboxEventInterface outboxEventInterface;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public LeaveEventOutbox(OutboxEventInterface outboxEventInterface, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.outboxEventInterface = outboxEventInterface;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void submitted(LeaveRequest request) {
+        write(request, null, SUBMITTED);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void statusChanged(LeaveRequest request, Status previousStatus) {
+        write(request, previousStatus, STATUS_CHANGED);
+    }
+
+    private void write(LeaveRequest request, Status previousStatus, String eventType) {
+        Employee employee = request.getEmployee();
+        // Two requests of the same employee decided at the same time would otherwise be able to commit in the
+        // opposite order of their event ids. Holding the employee row until commit keeps ids in commit order.
+        entityManager.lock(employee, LockModeType.PESSIMISTIC_WRITE);
+
+        LeaveStatusChangedEvent event = new LeaveStatusChangedEvent(request.getId(), employee.getEmployeeId(),
+                employee.getDepartment().getDepartmentId(), previousStatus, request.getStatus(), request.getDecidedBy(),
+                request.getStartDate(), request.getEndDate());
+        try {
+            outboxEventInterface.save(new OutboxEvent(employee.getEmployeeId(), eventType,
+                    objectMapper.writeValueAsString(event), LocalDateTime.now()));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.SpringBoot.Project.Outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+// The built-in sinks, picked with app.outbox.sink. Other OutboxSink beans are delivered to as well.
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "file", matchIfMissing = true)
+    public FileOutboxSink fileOutboxSink(@Value("${app.outbox.file:logs/leave-events.ndjson}") Path file,
+                                         ObjectMapper objectMapper) {
+        return new FileOutboxSink(file, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "memory")
+    public InMemoryOutboxSink inMemoryOutboxSink() {
+        return new InMemoryOutboxSink();
+    }
+}
@@ -0,0 +1,23 @@
+package com.SpringBoot.Project.Outbox;
+
+import com.SpringBoot.Project.Models.OutboxEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+// The JSON shape sinks hand events on in: {"id", "type", "createdAt", "payload"}, with the payload embedded as JSON.
+// Receivers dedupe on "id".
+public final class OutboxEnvelope {
+
+    private OutboxEnvelope() {
+    }
+
+    public static ObjectNode toJson(OutboxEvent event, ObjectMapper objectMapper) throws JsonProcessingException {
+        ObjectNode envelope = objectMapper.createObjectNode();
+        envelope.put("id", event.getId());
+        envelope.put("type", event.getEventType());
+        envelope.put("createdAt", event.getCreatedAt().toString());
+        envelope.set("payload", objectMapper.readTree(event.getPayload()));
+        return envelope;
+    }
+}
@@ -0,0 +1,177 @@
+package com.SpringBoot.Project.Outbox;
+
+import com.SpringBoot.Project.Models.OutboxEvent;
+import com.SpringBoot.Project.Repositories.OutboxEventInterface;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// Polls the outbox and hands unpublished events to every OutboxSink, then stamps them as published. An event is
+// only stamped after all sinks accepted it, so a crash in between delivers it again (at least once).
+//
+// Events are grouped per employee and each group is delivered in id order. When a sink fails, that employee's
+// events stay unpublished and are retried first on the next poll, other employees are not held up. After
+// app.outbox.max-attempts failed deliveries an event is parked: it stays in the table with its last error, the
+// relay skips it and moves on to the employee's later events.
+//
+// Ordering holds for a single relay, run it on one instance only (app.outbox.relay.enabled=false on the others).
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger logger = LogManager.getLogger(OutboxRelay.class);
+
+    // A batch's ids go into one IN list when they are marked, Oracle allows at most 1000
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final OutboxEventInterface outboxEventInterface;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter parked;
+    private final Timer lag;
+
+    public OutboxRelay(OutboxEventInterface outboxEventInterface,
+                       List<OutboxSink> sinks,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.outbox.batch-size:200}") int batchSize,
+                       @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${app.outbox.retention:7d}") Duration retention) {
+        this.outboxEventInterface = outboxEventInterface;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.min(Math.max(1, batchSize), MAX_BATCH_SIZE);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retention = retention;
+        this.delivered = Counter.builder("leave.outbox.events").tag("outcome", "delivered")
+                .description("Outbox events accepted by every sink").register(meterRegistry);
+        this.failed = Counter.builder("leave.outbox.events").tag("outcome", "failed")
+                .description("Outbox event deliveries that will be retried").register(meterRegistry);
+        this.parked = Counter.builder("leave.outbox.events").tag("outcome", "parked")
+                .description("Outbox events given up on after app.outbox.max-attempts").register(meterRegistry);
+        this.lag = Timer.builder("leave.outbox.lag")
+                .description("Time from writing an outbox event to its delivery").register(meterRegistry);
+        if (sinks.isEmpty()) {
+            logger.warn("No outbox sinks configured, leave events stay in the outbox until one is");
+        }
+    }
+
+    // Drains the outbox a batch at a time. Stops at the first batch that isn't full or had a failure, the failed
+    // events would otherwise head the next batch and use up their attempts within one poll.
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:1000}", initialDelayString = "${app.outbox.poll-interval:1000}")
+    public void poll() {
+        if (sinks.isEmpty()) {
+            return;
+        }
+        try {
+            BatchResult result;
+            do {
+                result = relayBatch();
+            } while (result.polled() == batchSize && result.failed() == 0);
+        } catch (RuntimeException e) {
+            // Logged here, an exception escaping a scheduled method would only be seen by the scheduler's error handler
+            logger.error("Outbox relay poll failed, retrying on the next poll", e);
+        }
+    }
+
+    public BatchResult relayBatch() {
+        List<OutboxEvent> batch = outboxEventInterface.findPending(maxAttempts, Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return new BatchResult(0, 0, 0);
+        }
+
+        Map<Long, List<OutboxEvent>> byEmployee = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            byEmployee.computeIfAbsent(event.getEmployeeId(), id -> new ArrayList<>()).add(event);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> deliveredIds = new ArrayList<>();
+        Map<String, List<OutboxEvent>> failures = new LinkedHashMap<>();
+        for (List<OutboxEvent> events : byEmployee.values()) {
+            String error = deliver(events);
+            if (error == null) {
+                for (OutboxEvent event : events) {
+                    deliveredIds.add(event.getId());
+                    lag.record(Duration.between(event.getCreatedAt(), now));
+                }
+            } else {
+                failures.computeIfAbsent(error, e -> new ArrayList<>()).addAll(events);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!deliveredIds.isEmpty()) {
+                outboxEventInterface.markPublished(deliveredIds, now);
+            }
+            failures.forEach((error, events) ->
+                    outboxEventInterface.recordFailedAttempt(events.stream().map(OutboxEvent::getId).toList(), error));
+        });
+
+        delivered.increment(deliveredIds.size());
+        int failedCount = 0;
+        for (Map.Entry<String, List<OutboxEvent>> failure : failures.entrySet()) {
+            for (OutboxEvent event : failure.getValue()) {
+                failedCount++;
+                if (event.getAttempts() + 1 >= maxAttempts) {
+                    parked.increment();
+                    logger.error("Parking outbox event {} for employee {} after {} attempts: {}",
+                            event.getId(), event.getEmployeeId(), maxAttempts, failure.getKey());
+                }
+            }
+        }
+        failed.increment(failedCount);
+        if (failedCount > 0) {
+            logger.warn("Delivered {} outbox events, {} failed and will be retried", deliveredIds.size(), failedCount);
+        }
+        return new BatchResult(batch.size(), deliveredIds.size(), failedCount);
+    }
+
+    // Returns null when every sink took the events, or the first error
+    private String deliver(List<OutboxEvent> events) {
+        for (OutboxSink sink : sinks) {
+            try {
+                sink.publish(events);
+            } catch (Exception e) {
+                String error = sink.name() + ": " + e;
+                return error.length() > 1000 ? error.substring(0, 1000) : error;
+            }
+        }
+        return null;
+    }
+
+    // Published events are kept for a while to help answer "did payroll get this?", then removed
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval:3600000}", initialDelayString = "${app.outbox.purge-interval:3600000}")
+    public void purge() {
+        try {
+            Integer removed = transactionTemplate.execute(status ->
+                    outboxEventInterface.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+            if (removed != null && removed > 0) {
+                logger.info("Removed {} published outbox events older than {}", removed, retention);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Outbox purge failed", e);
+        }
+    }
+
+    public record BatchResult(int polled, int delivered, int failed) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.SpringBoot.Project.Outbox;
+
+import com.SpringBoot.Project.Models.OutboxEvent;
+
+import java.util.List;
+
+// Destination for outbox events, e.g. payroll or the calendar system. Every OutboxSink bean receives every event.
+//
+// Delivery is at least once: an event can arrive again after a failure or a restart, so sinks should drop events
+// whose id they have already seen. Each call carries the events of one employee in the order they happened. Throwing
+// fails the whole call, those events and the employee's later ones are retried on the next poll.
+public interface OutboxSink {
+
+    String name();
+
+    void publish(List<OutboxEvent> events) throws Exception;
+}
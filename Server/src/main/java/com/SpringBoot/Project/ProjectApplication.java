@@ -2,10 +2,16 @@ package com.SpringBoot.Project;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+// Scheduling is enabled here rather than next to one of its users: the outbox relay, the leave stream heartbeat,
+// the replica lag monitor, the idempotency key purge and the webhook subscription refresh all rely on it
 @SpringBootApplication
+@ImportRuntimeHints(NativeHints.class)
+@EnableScheduling
 public class ProjectApplication {
 	private static final Logger logger = LogManager.getLogger(ProjectApplication.class);
 
@@ -0,0 +1,37 @@
+package com.SpringBoot.Project.Reactive;
+
+import com.SpringBoot.Project.Dto.DepartmentRow;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ReactiveDepartmentRepository {
+
+    private static final String SELECT = "SELECT department_id, name, description FROM department";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveDepartmentRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<DepartmentRow> findAll() {
+        return databaseClient.sql(SELECT + " ORDER BY department_id")
+                .filter(statement -> statement.fetchSize(ReactiveReadServer.FETCH_SIZE))
+                .map(ReactiveDepartmentRepository::toRow)
+                .all();
+    }
+
+    public Mono<DepartmentRow> findById(long id) {
+        return databaseClient.sql(SELECT + " WHERE department_id = :id")
+                .bind("id", id)
+                .map(ReactiveDepartmentRepository::toRow)
+                .one();
+    }
+
+    private static DepartmentRow toRow(Readable row) {
+        return new DepartmentRow(row.get("department_id", Long.class), row.get("name", String.class),
+                row.get("description", String.class));
+    }
+}
@@ -0,0 +1,44 @@
+package com.SpringBoot.Project.Reactive;
+
+import com.SpringBoot.Project.Dto.EmployeeExportRow;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Same rows as the employee export, read without touching the JPA entities
+public class ReactiveEmployeeRepository {
+
+    private static final String SELECT = "SELECT e.employee_id, e.name, e.email, d.department_id, d.name AS department_name, "
+            + "r.name AS role, u.username FROM employee e "
+            + "JOIN department d ON d.department_id = e.department_id "
+            + "JOIN roles r ON r.id = e.roles_id "
+            + "JOIN user_entity u ON u.id = e.user_entity_id";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveEmployeeRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<EmployeeExportRow> findAll() {
+        return databaseClient.sql(SELECT + " ORDER BY e.employee_id")
+                .filter(statement -> statement.fetchSize(ReactiveReadServer.FETCH_SIZE))
+                .map(ReactiveEmployeeRepository::toRow)
+                .all();
+    }
+
+    public Mono<EmployeeExportRow> findById(long id) {
+        return databaseClient.sql(SELECT + " WHERE e.employee_id = :id")
+                .bind("id", id)
+                .map(ReactiveEmployeeRepository::toRow)
+                .one();
+    }
+
+    private static EmployeeExportRow toRow(Readable row) {
+        return new EmployeeExportRow(row.get("employee_id", Long.class), row.get("name", String.class),
+                row.get("email", String.class), row.get("department_id", Long.class),
+                row.get("department_name", String.class), row.get("role", String.class),
+                row.get("username", String.class));
+    }
+}
@@ -0,0 +1,53 @@
+package com.SpringBoot.Project.Reactive;
+
+import com.SpringBoot.Project.Dto.LeaveRequestExportRow;
+import com.SpringBoot.Project.Models.Status;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+// Same rows as the leave request export, read without touching the JPA entities
+public class ReactiveLeaveRequestRepository {
+
+    private static final String SELECT = "SELECT lr.id, e.employee_id, e.name AS employee_name, e.department_id, "
+            + "lr.start_date, lr.end_date, lr.status, lr.reason, lr.manager_comment FROM leave_request lr "
+            + "JOIN employee e ON e.employee_id = lr.employee_id";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveLeaveRequestRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<LeaveRequestExportRow> findAll() {
+        return databaseClient.sql(SELECT + " ORDER BY lr.id")
+                .filter(statement -> statement.fetchSize(ReactiveReadServer.FETCH_SIZE))
+                .map(ReactiveLeaveRequestRepository::toRow)
+                .all();
+    }
+
+    public Flux<LeaveRequestExportRow> findAllByEmployeeId(long employeeId) {
+        return databaseClient.sql(SELECT + " WHERE e.employee_id = :employeeId ORDER BY lr.id")
+                .bind("employeeId", employeeId)
+                .map(ReactiveLeaveRequestRepository::toRow)
+                .all();
+    }
+
+    public Mono<LeaveRequestExportRow> findById(long id) {
+        return databaseClient.sql(SELECT + " WHERE lr.id = :id")
+                .bind("id", id)
+                .map(ReactiveLeaveRequestRepository::toRow)
+                .one();
+    }
+
+    private static LeaveRequestExportRow toRow(Readable row) {
+        return new LeaveRequestExportRow(row.get("id", Long.class), row.get("employee_id", Long.class),
+                row.get("employee_name", String.class), row.get("department_id", Long.class),
+                row.get("start_date", LocalDate.class), row.get("end_date", LocalDate.class),
+                Status.valueOf(row.get("status", String.class)), row.get("reason", String.class),
+                row.get("manager_comment", String.class));
+    }
+}
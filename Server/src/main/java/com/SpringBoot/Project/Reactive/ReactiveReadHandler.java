@@ -0,0 +1,87 @@
+package com.SpringBoot.Project.Reactive;
+
+import com.SpringBoot.Project.Dto.DepartmentRow;
+import com.SpringBoot.Project.Dto.EmployeeExportRow;
+import com.SpringBoot.Project.Dto.LeaveRequestExportRow;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.LongFunction;
+
+// Handler functions of the reactive read API, the WebFlux counterpart of the read endpoints in Controllers
+public class ReactiveReadHandler {
+
+    private final ReactiveDepartmentRepository departmentRepository;
+    private final ReactiveEmployeeRepository employeeRepository;
+    private final ReactiveLeaveRequestRepository leaveRequestRepository;
+
+    public ReactiveReadHandler(ReactiveDepartmentRepository departmentRepository,
+                               ReactiveEmployeeRepository employeeRepository,
+                               ReactiveLeaveRequestRepository leaveRequestRepository) {
+        this.departmentRepository = departmentRepository;
+        this.employeeRepository = employeeRepository;
+        this.leaveRequestRepository = leaveRequestRepository;
+    }
+
+    public Mono<ServerResponse> getAllDepartments(ServerRequest request) {
+        return list(request, departmentRepository.findAll(), DepartmentRow.class);
+    }
+
+    public Mono<ServerResponse> getDepartmentById(ServerRequest request) {
+        return one(request, departmentRepository::findById);
+    }
+
+    public Mono<ServerResponse> getAllEmployees(ServerRequest request) {
+        return list(request, employeeRepository.findAll(), EmployeeExportRow.class);
+    }
+
+    public Mono<ServerResponse> getEmployeeById(ServerRequest request) {
+        return one(request, employeeRepository::findById);
+    }
+
+    public Mono<ServerResponse> getLeaveRequestsByEmployee(ServerRequest request) {
+        Long employeeId = pathId(request);
+        if (employeeId == null) {
+            return ServerResponse.badRequest().build();
+        }
+        return list(request, leaveRequestRepository.findAllByEmployeeId(employeeId), LeaveRequestExportRow.class);
+    }
+
+    public Mono<ServerResponse> getAllLeaveRequests(ServerRequest request) {
+        return list(request, leaveRequestRepository.findAll(), LeaveRequestExportRow.class);
+    }
+
+    public Mono<ServerResponse> getLeaveRequestById(ServerRequest request) {
+        return one(request, leaveRequestRepository::findById);
+    }
+
+    // Rows are written as they arrive from the database and only as fast as the client reads them:
+    // Netty stops requesting rows while the socket isn't writable and R2DBC stops fetching in turn.
+    // Clients that accept application/x-ndjson get one object per line, everyone else a JSON array.
+    private static <T> Mono<ServerResponse> list(ServerRequest request, Flux<T> rows, Class<T> type) {
+        MediaType mediaType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok().contentType(mediaType).body(rows, type);
+    }
+
+    private static <T> Mono<ServerResponse> one(ServerRequest request, LongFunction<Mono<T>> finder) {
+        Long id = pathId(request);
+        if (id == null) {
+            return ServerResponse.badRequest().build();
+        }
+        return finder.apply(id)
+                .flatMap(row -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(row))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    private static Long pathId(ServerRequest request) {
+        try {
+            return Long.valueOf(request.pathVariable("id"));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.SpringBoot.Project.Reactive;
+
+import com.SpringBoot.Project.Security.JwtGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+// Serves the reactive read API on its own Netty port, next to Tomcat and the MVC controllers.
+// The R2DBC pool is deliberately not a bean: Boot would take a ConnectionFactory bean as a sign
+// to skip the JDBC DataSource that JPA and the rest of the application run on.
+@Component
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private static final Logger logger = LogManager.getLogger(ReactiveReadServer.class);
+
+    // Rows fetched per database round trip when streaming a whole table
+    static final int FETCH_SIZE = 500;
+
+    private final JwtGenerator jwtGenerator;
+    private final ObjectMapper objectMapper;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int poolSize;
+    private final int port;
+
+    private ConnectionPool connectionPool;
+    private DisposableServer server;
+
+    public ReactiveReadServer(JwtGenerator jwtGenerator,
+                              ObjectMapper objectMapper,
+                              @Value("${app.reactive.r2dbc.url}") String url,
+                              @Value("${app.reactive.r2dbc.username:${spring.datasource.username}}") String username,
+                              @Value("${app.reactive.r2dbc.password:${spring.datasource.password}}") String password,
+                              @Value("${app.reactive.r2dbc.pool-size:10}") int poolSize,
+                              @Value("${app.reactive.port:8081}") int port) {
+        this.jwtGenerator = jwtGenerator;
+        this.objectMapper = objectMapper;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.poolSize = poolSize;
+        this.port = port;
+    }
+
+    // Uses the application's ObjectMapper so dates and enums look the same as on the MVC endpoints
+    public static HandlerStrategies handlerStrategies(ObjectMapper objectMapper) {
+        return HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+    }
+
+    public static ReactiveReadHandler handler(DatabaseClient databaseClient) {
+        return new ReactiveReadHandler(new ReactiveDepartmentRepository(databaseClient),
+                new ReactiveEmployeeRepository(databaseClient),
+                new ReactiveLeaveRequestRepository(databaseClient));
+    }
+
+    @Override
+    public void start() {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("ReactiveReadPool")
+                .maxSize(poolSize)
+                .build());
+
+        ReactorHttpHandlerAdapter adapter = new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(
+                ReactiveRoutes.routes(handler(DatabaseClient.create(connectionPool)), jwtGenerator),
+                handlerStrategies(objectMapper)));
+        server = HttpServer.create().port(port).handle(adapter).bindNow();
+        logger.info("Reactive read API listening on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+        if (connectionPool != null) {
+            connectionPool.dispose();
+            connectionPool = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    public int getPort() {
+        return server == null ? port : server.port();
+    }
+}
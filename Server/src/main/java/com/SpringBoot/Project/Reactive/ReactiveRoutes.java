@@ -0,0 +1,65 @@
+package com.SpringBoot.Project.Reactive;
+
+import com.SpringBoot.Project.Security.JwtGenerator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+public final class ReactiveRoutes {
+
+    private ReactiveRoutes() {
+    }
+
+    // Same paths and the same roles as the matching MVC endpoints in SecurityConfig
+    public static RouterFunction<ServerResponse> routes(ReactiveReadHandler handler, JwtGenerator jwtGenerator) {
+        RouterFunction<ServerResponse> departments = route()
+                .GET("/api/departments", handler::getAllDepartments)
+                .GET("/api/departments/{id}", handler::getDepartmentById)
+                .build()
+                .filter(requireRole(jwtGenerator, "ADMIN", "MANAGER"));
+
+        RouterFunction<ServerResponse> leaves = route()
+                .GET("/api/leaves", handler::getAllLeaveRequests)
+                .GET("/api/leaves/{id}", handler::getLeaveRequestById)
+                .build()
+                .filter(requireRole(jwtGenerator, "ADMIN", "MANAGER"));
+
+        RouterFunction<ServerResponse> employees = route()
+                .GET("/api/employees", handler::getAllEmployees)
+                .GET("/api/employees/{id}", handler::getEmployeeById)
+                .GET("/api/employees/{id}/leaves", handler::getLeaveRequestsByEmployee)
+                .build()
+                .filter(requireRole(jwtGenerator, "ADMIN"));
+
+        return departments.and(leaves).and(employees);
+    }
+
+    // The servlet filter reloads the user on every request, here the roles in the signed token are trusted
+    // so authentication never blocks an event loop thread on the database
+    private static HandlerFilterFunction<ServerResponse, ServerResponse> requireRole(JwtGenerator jwtGenerator, String... roles) {
+        Set<String> allowed = Set.of(roles);
+        return (request, next) -> {
+            String header = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+            if (header == null || !header.startsWith("Bearer ")) {
+                return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            String token = header.substring(7);
+            Optional<List<String>> granted = jwtGenerator.getValidRoles(token);
+            if (granted.isEmpty()) {
+                return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            if (granted.get().stream().noneMatch(allowed::contains)) {
+                return ServerResponse.status(HttpStatus.FORBIDDEN).build();
+            }
+            return next.handle(request);
+        };
+    }
+}
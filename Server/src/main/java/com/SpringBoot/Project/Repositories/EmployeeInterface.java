@@ -1,13 +1,43 @@
 package com.SpringBoot.Project.Repositories;
 
+import com.SpringBoot.Project.Dto.EmployeeExportRow;
 import com.SpringBoot.Project.Models.Department;
 import com.SpringBoot.Project.Models.Employee;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 
 public interface EmployeeInterface extends JpaRepository<Employee, Long> {
 
     List<Employee> findAllByDepartment(Department department);
+
+    long countByDepartment(Department department);
+
+    // Used by the bulk import to reject duplicate emails up front instead of failing a whole batch on the unique key
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Loads a batch of employees and everything Jackson will touch in one round trip instead of one select per association
+    @Query("SELECT DISTINCT e FROM Employee e JOIN FETCH e.department JOIN FETCH e.role " +
+            "JOIN FETCH e.userEntity u LEFT JOIN FETCH u.roles WHERE e.employeeId IN :ids")
+    List<Employee> findAllWithAssociationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Forward-only cursor for the export endpoint, must be consumed inside a transaction and closed afterwards
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.SpringBoot.Project.Dto.EmployeeExportRow(e.employeeId, e.name, e.email, d.departmentId, d.name, r.name, u.username) " +
+            "FROM Employee e JOIN e.department d JOIN e.role r JOIN e.userEntity u ORDER BY e.employeeId")
+    Stream<EmployeeExportRow> streamAllForExport();
 }
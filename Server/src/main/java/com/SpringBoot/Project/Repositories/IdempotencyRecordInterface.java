@@ -0,0 +1,40 @@
+package com.SpringBoot.Project.Repositories;
+
+import com.SpringBoot.Project.Models.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordInterface extends JpaRepository<IdempotencyRecord, String> {
+
+    // Takes over an expired or abandoned key. Matching on the createdAt that was read makes it a compare and set,
+    // of two instances taking over the same row only one updates it.
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.fingerprint = :fingerprint, r.statusCode = NULL, r.contentType = NULL, "
+            + "r.body = NULL, r.createdAt = :createdAt, r.expiresAt = :expiresAt "
+            + "WHERE r.id = :id AND r.createdAt = :previousCreatedAt")
+    int reclaim(@Param("id") String id,
+                @Param("previousCreatedAt") LocalDateTime previousCreatedAt,
+                @Param("fingerprint") String fingerprint,
+                @Param("createdAt") LocalDateTime createdAt,
+                @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.statusCode = :statusCode, r.contentType = :contentType, r.body = :body "
+            + "WHERE r.id = :id AND r.statusCode IS NULL")
+    int complete(@Param("id") String id,
+                 @Param("statusCode") int statusCode,
+                 @Param("contentType") String contentType,
+                 @Param("body") String body);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.statusCode IS NULL")
+    int release(@Param("id") String id);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,12 +1,19 @@
 package com.SpringBoot.Project.Repositories;
 
+import com.SpringBoot.Project.Dto.LeaveRequestExportRow;
 import com.SpringBoot.Project.Models.LeaveRequest;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface LeaveRequestInterface extends JpaRepository<LeaveRequest, Long> {
 
@@ -18,4 +25,14 @@ public interface LeaveRequestInterface extends JpaRepository<LeaveRequest, Long>
             @Param("employeeId") Long employeeId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
-}
\ No newline at end of file
+
+    // Forward-only cursor for the export endpoint, must be consumed inside a transaction and closed afterwards
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.SpringBoot.Project.Dto.LeaveRequestExportRow(lr.id, e.employeeId, e.name, e.department.departmentId, " +
+            "lr.startDate, lr.endDate, lr.status, lr.reason, lr.managerComment) " +
+            "FROM LeaveRequest lr JOIN lr.employee e ORDER BY lr.id")
+    Stream<LeaveRequestExportRow> streamAllForExport();
+}
@@ -3,9 +3,12 @@ package com.SpringBoot.Project.Repositories;
 import com.SpringBoot.Project.Models.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserInterface extends JpaRepository<UserEntity, Integer> {
     Optional<UserEntity> findByUsername(String username);
     Boolean existsByUsername(String username);
+    List<UserEntity> findAllByUsernameIn(Collection<String> usernames);
 }
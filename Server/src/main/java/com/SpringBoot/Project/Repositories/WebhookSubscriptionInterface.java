@@ -0,0 +1,7 @@
+package com.SpringBoot.Project.Repositories;
+
+import com.SpringBoot.Project.Models.WebhookSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface WebhookSubscriptionInterface extends JpaRepository<WebhookSubscription, Long> {
+}
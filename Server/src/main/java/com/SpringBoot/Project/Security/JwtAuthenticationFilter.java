@@ -1,5 +1,6 @@
 package com.SpringBoot.Project.Security;
 
+import com.SpringBoot.Project.Logging.SampledLoggers;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,6 +20,8 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LogManager.getLogger(JwtAuthenticationFilter.class);
+    // Runs on every authenticated request, so the success line goes through the rate limited "sampled" logger
+    private static final Logger sampledLogger = SampledLoggers.forClass(JwtAuthenticationFilter.class);
 
     private JwtGenerator jwtGenerator;
     private CustomUserDetailsService customUserDetailsService;
@@ -49,12 +52,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                    logger.info("Successfully authenticated user: {}", username);
+                    sampledLogger.info("Successfully authenticated user: {}", username);
                 } else {
-                    logger.warn("Invalid JWT token received for request to: {}", request.getRequestURI());
+                    // Already counted by JwtGenerator, the request just continues unauthenticated
+                    logger.debug("Invalid JWT token received for request to: {}", request.getRequestURI());
                 }
             } catch (Exception e) {
-                logger.error("Failed to process JWT token", e);
+                logger.warn("Failed to process JWT token: {}", e.getMessage());
             }
         } else {
             logger.debug("No JWT token found in request to: {}", request.getRequestURI());
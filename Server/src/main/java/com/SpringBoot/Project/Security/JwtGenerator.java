@@ -2,10 +2,13 @@ package com.SpringBoot.Project.Security;
 
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
-import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
@@ -14,15 +17,24 @@ import java.security.Key;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 
 @Component
 public class JwtGenerator {
 
+    private static final Logger logger = LogManager.getLogger(JwtGenerator.class);
+
+    // Expired, tampered and malformed tokens are routine traffic, so they are counted instead of logged one by one
+    private final AtomicLong invalidTokens = new AtomicLong();
 
     Key key = Keys.secretKeyFor(SignatureAlgorithm.HS512);
 
+    // Thread safe, built once instead of per token
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
     public String generateToken(Authentication authentication) {
         String username = authentication.getName();
         Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
@@ -45,25 +57,34 @@ public class JwtGenerator {
     }
 
     public String getUserName(String token){
-        Claims claims = Jwts.parser()
-                .setSigningKey(key)
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parser.parseClaimsJws(token).getBody();
         return claims.getSubject();
     }
 
+    // The roles a valid token carries, validated and read in one parse. Empty when the token is invalid, which is
+    // counted like in validateToken.
+    public Optional<List<String>> getValidRoles(String token) {
+        return parseValid(token).map(claims -> {
+            List<?> roles = claims.get("roles", List.class);
+            return roles == null ? List.of() : roles.stream().map(String::valueOf).toList();
+        });
+    }
+
     public boolean validateToken(String token) {
+        return parseValid(token).isPresent();
+    }
+
+    private Optional<Claims> parseValid(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            // Log the actual exception message for debugging purposes
-            System.err.println("JWT validation failed: " + e.getMessage());
-            e.printStackTrace();
-            throw new AuthenticationCredentialsNotFoundException("JWT incorrect or expired", e);
+            return Optional.of(parser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidTokens.incrementAndGet();
+            logger.debug("JWT validation failed: {}", e.getMessage());
+            return Optional.empty();
         }
     }
+
+    public long getInvalidTokenCount() {
+        return invalidTokens.get();
+    }
 }
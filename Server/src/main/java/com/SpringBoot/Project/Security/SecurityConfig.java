@@ -43,10 +43,15 @@ public class SecurityConfig {
                 .authorizeRequests()
                 .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                .requestMatchers("/actuator/**").hasAnyAuthority("ADMIN")
                 .requestMatchers("/api/leaves/submit").hasAnyAuthority("EMPLOYEE", "MANAGER", "ADMIN")
                 .requestMatchers("/api/leaves/**").hasAnyAuthority("ADMIN", "MANAGER")
                 .requestMatchers("/api/departments/**").hasAnyAuthority("ADMIN", "MANAGER")
                 .requestMatchers("/api/employees/**").hasAnyAuthority("ADMIN")
+                .requestMatchers("/api/webhooks/**").hasAnyAuthority("ADMIN")
+                .requestMatchers("/api/reports/rebuild").hasAnyAuthority("ADMIN")
+                .requestMatchers("/api/reports/**").hasAnyAuthority("ADMIN", "MANAGER")
                 .anyRequest().authenticated();
         http.addFilterBefore(jwtAuthenticationFilter(jwtGenerator), UsernamePasswordAuthenticationFilter.class);
         return http.build();
@@ -1,11 +1,11 @@
 package com.SpringBoot.Project.Services;
 
 import com.SpringBoot.Project.Models.Department;
-import com.SpringBoot.Project.Models.Employee;
 import com.SpringBoot.Project.Models.Result;
 import com.SpringBoot.Project.Repositories.DepartmentInterface;
 import com.SpringBoot.Project.Repositories.EmployeeInterface;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,11 +21,13 @@ public class DepartmentService {
         this.employeeInterface = employeeInterface;
     }
 
+    @Transactional(readOnly = true)
     public Result<List<Department>> getAllDepartments(){
         List<Department> departments = departmentInterface.findAll();
         return Result.success(departments, "Departments fetched successfully.");
     }
 
+    @Transactional(readOnly = true)
     public Result<Department> getDepartmentById(long id){
         Optional<Department> department = departmentInterface.findById(id);
         if(department.isPresent()){
@@ -35,6 +37,8 @@ public class DepartmentService {
         }
     }
 
+    // A single save, the repository's own transaction is enough. Wrapping it would move the flush, and any constraint
+    // violation with it, past the catch below
     public Result<Department> saveOrUpdateDepartment(Department department){
         try{
             Department savedDepartment = departmentInterface.save(department);
@@ -44,6 +48,8 @@ public class DepartmentService {
         }
     }
 
+    // The employee check and the delete in one transaction, and one persistence context for both lookups
+    @Transactional
     public Result<Void> deleteDepartmentById(long id) {
         Optional<Department> departmentOptional = departmentInterface.findById(id);
         if (departmentOptional.isEmpty()) {
@@ -51,11 +57,12 @@ public class DepartmentService {
         }
 
         Department department = departmentOptional.get();
-        List<Employee> departmentEmployees = employeeInterface.findAllByDepartment(department);
+        // Counted rather than loaded, the department's employees would otherwise all be dirty-checked at commit
+        long employees = employeeInterface.countByDepartment(department);
 
-        if (!departmentEmployees.isEmpty()) {
+        if (employees > 0) {
             return Result.failure("Cannot delete department with existing employees",
-                    List.of("Department " + department.getName() + " still has " + departmentEmployees.size() + " employees"));
+                    List.of("Department " + department.getName() + " still has " + employees + " employees"));
         }
 
         departmentInterface.deleteById(id);
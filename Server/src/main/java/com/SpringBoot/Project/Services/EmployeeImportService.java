@@ -0,0 +1,266 @@
+package com.SpringBoot.Project.Services;
+
+import com.SpringBoot.Project.Dto.EmployeeImportReportDto;
+import com.SpringBoot.Project.Models.*;
+import com.SpringBoot.Project.Repositories.DepartmentInterface;
+import com.SpringBoot.Project.Repositories.EmployeeInterface;
+import com.SpringBoot.Project.Repositories.RoleInterface;
+import com.SpringBoot.Project.Repositories.UserInterface;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class EmployeeImportService {
+
+    // Rows are resolved and inserted this many at a time, each chunk in its own transaction.
+    // Kept below Oracle's 1000 element IN list limit since usernames and emails are looked up per chunk.
+    static final int CHUNK_SIZE = 500;
+
+    // The report only keeps this many row errors so a completely broken file can't grow the heap
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final EmployeeInterface employeeInterface;
+    private final DepartmentInterface departmentInterface;
+    private final RoleInterface roleInterface;
+    private final UserInterface userInterface;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    public EmployeeImportService(EmployeeInterface employeeInterface,
+                                 DepartmentInterface departmentInterface,
+                                 RoleInterface roleInterface,
+                                 UserInterface userInterface,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 Validator validator,
+                                 ObjectMapper objectMapper) {
+        this.employeeInterface = employeeInterface;
+        this.departmentInterface = departmentInterface;
+        this.roleInterface = roleInterface;
+        this.userInterface = userInterface;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+    }
+
+    public Result<EmployeeImportReportDto> importEmployees(InputStream body, DataFormat format) {
+        EmployeeImportReportDto report = new EmployeeImportReportDto();
+
+        // Departments and roles are small reference tables, so they are loaded once instead of once per row
+        Map<Long, Department> departments = departmentInterface.findAll().stream()
+                .collect(Collectors.toMap(Department::getDepartmentId, Function.identity()));
+        Map<Integer, Roles> roles = roleInterface.findAll().stream()
+                .collect(Collectors.toMap(Roles::getId, Function.identity()));
+
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long rowNumber = 0;
+            boolean firstLine = true;
+
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (firstLine && format == DataFormat.CSV && isCsvHeader(line)) {
+                    firstLine = false;
+                    continue;
+                }
+                firstLine = false;
+
+                rowNumber++;
+                report.setRowsRead(rowNumber);
+                try {
+                    chunk.add(format == DataFormat.CSV ? parseCsv(line, rowNumber) : parseJson(line, rowNumber));
+                } catch (IllegalArgumentException | JsonProcessingException e) {
+                    reject(report, rowNumber, "Malformed row: " + e.getMessage());
+                }
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, departments, roles, report);
+                    chunk.clear();
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, departments, roles, report);
+            }
+        } catch (IOException e) {
+            return Result.failure("Failed to read import data after " + report.getRowsRead() + " rows ("
+                    + report.getImported() + " imported)", List.of(e.getMessage()));
+        }
+
+        return Result.success(report, "Imported " + report.getImported() + " of " + report.getRowsRead() + " rows.");
+    }
+
+    private void importChunk(List<ImportRow> rows, Map<Long, Department> departments, Map<Integer, Roles> roles,
+                             EmployeeImportReportDto report) {
+        List<ImportRow> accepted = new ArrayList<>(rows.size());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<String> usernames = rows.stream().map(ImportRow::username).collect(Collectors.toSet());
+                Set<String> emails = rows.stream().map(ImportRow::email).filter(Objects::nonNull).collect(Collectors.toSet());
+
+                Map<String, UserEntity> users = usernames.isEmpty() ? Map.of() : userInterface.findAllByUsernameIn(usernames).stream()
+                        .collect(Collectors.toMap(UserEntity::getUsername, Function.identity(), (first, second) -> first));
+                Set<String> existingEmails = emails.isEmpty() ? Set.of() : new HashSet<>(employeeInterface.findExistingEmails(emails));
+
+                Set<String> chunkEmails = new HashSet<>();
+                List<Employee> employees = new ArrayList<>(rows.size());
+                for (ImportRow row : rows) {
+                    String error = resolveError(row, departments, roles, users, existingEmails, chunkEmails);
+                    if (error != null) {
+                        reject(report, row.rowNumber(), error);
+                        continue;
+                    }
+
+                    Employee employee = new Employee(row.name(), row.email(), departments.get(row.departmentId()),
+                            roles.get(row.roleId()), users.get(row.username()));
+                    Set<ConstraintViolation<Employee>> violations = validator.validate(employee);
+                    if (!violations.isEmpty()) {
+                        reject(report, row.rowNumber(), violations.stream()
+                                .map(ConstraintViolation::getMessage)
+                                .sorted()
+                                .collect(Collectors.joining("; ")));
+                        continue;
+                    }
+
+                    employees.add(employee);
+                    accepted.add(row);
+                }
+
+                employeeInterface.saveAll(employees);
+                // Flush the batch and drop the managed entities so the persistence context stays the size of one chunk
+                entityManager.flush();
+                entityManager.clear();
+            });
+            report.setImported(report.getImported() + accepted.size());
+        } catch (RuntimeException e) {
+            // The whole chunk was rolled back, typically over a unique key only the database checks. Its rows are
+            // reported already if they failed validation, the others are retried in halves until the failing rows
+            // are on their own, so only those are reported and the rest of the chunk still goes in.
+            if (accepted.size() <= 1) {
+                for (ImportRow row : accepted) {
+                    reject(report, row.rowNumber(), "Batch insert failed: " + e.getMessage());
+                }
+                return;
+            }
+            int half = accepted.size() / 2;
+            importChunk(new ArrayList<>(accepted.subList(0, half)), departments, roles, report);
+            importChunk(new ArrayList<>(accepted.subList(half, accepted.size())), departments, roles, report);
+        }
+    }
+
+    private String resolveError(ImportRow row, Map<Long, Department> departments, Map<Integer, Roles> roles,
+                                Map<String, UserEntity> users, Set<String> existingEmails, Set<String> chunkEmails) {
+        if (!departments.containsKey(row.departmentId())) {
+            return "No department of id " + row.departmentId();
+        }
+        if (!roles.containsKey(row.roleId())) {
+            return "No role of id " + row.roleId();
+        }
+        if (!users.containsKey(row.username())) {
+            return "No username of " + row.username();
+        }
+        if (row.email() != null && (existingEmails.contains(row.email()) || !chunkEmails.add(row.email()))) {
+            return "Employee with email " + row.email() + " already exists";
+        }
+        return null;
+    }
+
+    private void reject(EmployeeImportReportDto report, long rowNumber, String message) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add(new EmployeeImportReportDto.RowError(rowNumber, message));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+    private boolean isCsvHeader(String line) {
+        return line.trim().toLowerCase(Locale.ROOT).startsWith("name,");
+    }
+
+    // CSV columns: name,email,departmentId,roleId,username. Quoted fields are supported but not line breaks inside them.
+    private ImportRow parseCsv(String line, long rowNumber) {
+        List<String> fields = splitCsvLine(line);
+        if (fields.size() != 5) {
+            throw new IllegalArgumentException("expected 5 columns but found " + fields.size());
+        }
+        return new ImportRow(rowNumber, emptyToNull(fields.get(0)), emptyToNull(fields.get(1)),
+                Long.valueOf(fields.get(2)), Integer.valueOf(fields.get(3)), requireText(fields.get(4), "username"));
+    }
+
+    private ImportRow parseJson(String line, long rowNumber) throws JsonProcessingException {
+        JsonNode node = objectMapper.readTree(line);
+        if (!node.hasNonNull("departmentId") || !node.hasNonNull("roleId")) {
+            throw new IllegalArgumentException("departmentId and roleId are required");
+        }
+        return new ImportRow(rowNumber, node.path("name").textValue(), node.path("email").textValue(),
+                node.get("departmentId").asLong(), node.get("roleId").asInt(),
+                requireText(node.path("username").textValue(), "username"));
+    }
+
+    private static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString().trim());
+        return fields;
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static String requireText(String value, String field) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return value;
+    }
+
+    private record ImportRow(long rowNumber, String name, String email, Long departmentId, Integer roleId, String username) {
+    }
+}
@@ -1,17 +1,25 @@
 package com.SpringBoot.Project.Services;
 
+import com.SpringBoot.Project.Dto.EmployeeLookupDto;
 import com.SpringBoot.Project.Models.*;
 import com.SpringBoot.Project.Repositories.EmployeeInterface;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class EmployeeService {
 
+    // Most ids a single batch lookup may ask for
+    public static final int MAX_BATCH_IDS = 2000;
+
+    // Oracle rejects IN lists with more than 1000 elements, so larger lookups are split into several queries
+    static final int IN_CLAUSE_LIMIT = 1000;
+
     private final EmployeeInterface employeeInterface;
 
     @Autowired
@@ -34,11 +42,15 @@ public class EmployeeService {
         this.userEntityService = userEntityService;
     }
 
+    // Reads run in read-only transactions: Hibernate skips the flush at commit and loads entities without the snapshot
+    // copies it keeps for dirty checking, and with a replica configured they are served from it (see Database)
+    @Transactional(readOnly = true)
     public Result<List<Employee>> getAllEmployees(){
         List<Employee> employees = employeeInterface.findAll();
         return Result.success(employees, "Employees fetched successfully.");
     }
 
+    @Transactional(readOnly = true)
     public Result<Employee> getEmployeeById(long id){
         //For JPA methods, single search returns a type of Optional<T>
         Optional<Employee> employee = employeeInterface.findById(id);
@@ -51,6 +63,35 @@ public class EmployeeService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public Result<List<EmployeeLookupDto>> getEmployeesByIds(List<Long> ids){
+        if (ids == null || ids.isEmpty()) {
+            return Result.failure("Invalid input", List.of("At least one employee id is required"));
+        }
+        if (ids.size() > MAX_BATCH_IDS) {
+            return Result.failure("Too many ids", List.of("A batch lookup accepts at most " + MAX_BATCH_IDS + " ids"));
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            return Result.failure("Invalid input", List.of("Employee ids must not be null"));
+        }
+
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, Employee> employeesById = new HashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += IN_CLAUSE_LIMIT) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + IN_CLAUSE_LIMIT, distinctIds.size()));
+            employeeInterface.findAllWithAssociationsByIdIn(chunk).forEach(e -> employeesById.put(e.getEmployeeId(), e));
+        }
+
+        // Results keep the order of the request, ids that don't exist come back with found = false
+        List<EmployeeLookupDto> lookups = ids.stream()
+                .map(id -> new EmployeeLookupDto(id, employeesById.get(id)))
+                .collect(Collectors.toList());
+        long missing = lookups.stream().filter(lookup -> !lookup.isFound()).count();
+
+        return Result.success(lookups, "Found " + (lookups.size() - missing) + " of " + lookups.size() + " employees.");
+    }
+
+    @Transactional(readOnly = true)
     public Result<List<Employee>> getEmployeeByDepartment(Department department){
         List<Employee> departmentEmployees = employeeInterface.findAllByDepartment(department);
         if(departmentEmployees.isEmpty()){
@@ -60,6 +101,8 @@ public class EmployeeService {
         }
     }
 
+    // The department, role and user lookups and the save share one transaction and persistence context
+    @Transactional
     public Result<Employee> saveOrUpdateEmployee(Employee employee){
 
         if (employee == null || employee.getDepartment() == null) {
@@ -72,6 +115,7 @@ public class EmployeeService {
         try {
             deptResult = departmentService.getDepartmentById(deptId);
         } catch (Exception e) {
+            Transactions.rollbackOnly();
             return Result.failure("Error retrieving department", List.of(e.getMessage()));
         }
 
@@ -88,6 +132,7 @@ public class EmployeeService {
         try {
             roleResult = roleService.getRoleById(roleId);
         } catch (Exception e) {
+            Transactions.rollbackOnly();
             return Result.failure("Error retrieving role", List.of(e.getMessage()));
         }
 
@@ -104,6 +149,7 @@ public class EmployeeService {
         try {
             userEntityResult = userEntityService.getUserByUsername(username);
         } catch (Exception e) {
+            Transactions.rollbackOnly();
             return Result.failure("Error retrieving username", List.of(e.getMessage()));
         }
 
@@ -116,13 +162,17 @@ public class EmployeeService {
 
         try {
             Employee savedEmployee = employeeInterface.save(employee);
+            // Flush here so constraint violations land in this catch rather than at commit
+            employeeInterface.flush();
             return Result.success(savedEmployee, "Employee saved successfully!");
         } catch (Exception e) {
+            Transactions.rollbackOnly();
             return Result.failure("Failed to save employee", List.of(e.getMessage()));
         }
 
     }
 
+    @Transactional
     public Result<Void> deleteEmployeeById(long id){
         if(employeeInterface.existsById(id)){
             employeeInterface.deleteById(id);
@@ -0,0 +1,112 @@
+package com.SpringBoot.Project.Services;
+
+import com.SpringBoot.Project.Models.DataFormat;
+import com.SpringBoot.Project.Repositories.EmployeeInterface;
+import com.SpringBoot.Project.Repositories.LeaveRequestInterface;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Service
+public class ExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String EMPLOYEE_CSV_HEADER = "employeeId,name,email,departmentId,departmentName,role,username";
+    private static final String LEAVE_REQUEST_CSV_HEADER = "id,employeeId,employeeName,departmentId,startDate,endDate,status,reason,managerComment";
+
+    private final EmployeeInterface employeeInterface;
+    private final LeaveRequestInterface leaveRequestInterface;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter jsonWriter;
+
+    public ExportService(EmployeeInterface employeeInterface,
+                         LeaveRequestInterface leaveRequestInterface,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper) {
+        this.employeeInterface = employeeInterface;
+        this.leaveRequestInterface = leaveRequestInterface;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Each row is written on its own, the servlet stream must stay open between rows
+        this.jsonWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    public void exportEmployees(OutputStream out, DataFormat format) throws IOException {
+        export(out, format, employeeInterface::streamAllForExport, EMPLOYEE_CSV_HEADER,
+                row -> csvLine(row.employeeId(), row.name(), row.email(), row.departmentId(),
+                        row.departmentName(), row.role(), row.username()));
+    }
+
+    public void exportLeaveRequests(OutputStream out, DataFormat format) throws IOException {
+        export(out, format, leaveRequestInterface::streamAllForExport, LEAVE_REQUEST_CSV_HEADER,
+                row -> csvLine(row.id(), row.employeeId(), row.employeeName(), row.departmentId(),
+                        row.startDate(), row.endDate(), row.status(), row.reason(), row.managerComment()));
+    }
+
+    // Rows are written to the response as they come off the cursor, so memory use does not depend on the row count
+    private <T> void export(OutputStream target, DataFormat format, Supplier<Stream<T>> query,
+                            String csvHeader, Function<T, String> toCsv) throws IOException {
+        BufferedOutputStream out = new BufferedOutputStream(target, BUFFER_SIZE);
+        Writer csvWriter = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+
+        if (format == DataFormat.CSV) {
+            csvWriter.write(csvHeader);
+            csvWriter.write('\n');
+        }
+
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<T> rows = query.get()) {
+                    rows.forEach(row -> {
+                        try {
+                            if (format == DataFormat.CSV) {
+                                csvWriter.write(toCsv.apply(row));
+                            } else {
+                                jsonWriter.writeValue(out, row);
+                                out.write('\n');
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client went away, surface it as the IOException StreamingResponseBody expects
+            throw e.getCause();
+        }
+
+        csvWriter.flush();
+        out.flush();
+    }
+
+    private static String csvLine(Object... values) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(csvField(values[i]));
+        }
+        return line.append('\n').toString();
+    }
+
+    private static String csvField(Object value) {
+        String text = Objects.toString(value, "");
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,88 @@
+package com.SpringBoot.Project.Services;
+
+import com.SpringBoot.Project.Analytics.LeaveAggregates;
+import com.SpringBoot.Project.Analytics.LeaveAggregatesRebuild;
+import com.SpringBoot.Project.Analytics.ParallelRebuilder;
+import com.SpringBoot.Project.Dto.LeaveDaysByDepartmentRow;
+import com.SpringBoot.Project.Dto.RebuildProgress;
+import com.SpringBoot.Project.Dto.RejectionRateRow;
+import com.SpringBoot.Project.Models.Result;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.List;
+
+// Reports answered from the precomputed leave_stats_* tables, so their cost depends on the number of departments,
+// managers and months asked for rather than on the size of the leave history.
+@Service
+public class LeaveAnalyticsService {
+
+    // A report covers at most this many months, ten years of monthly rows per department is plenty
+    static final int MAX_MONTHS = 120;
+
+    private final LeaveAggregates leaveAggregates;
+    private final LeaveAggregatesRebuild leaveAggregatesRebuild;
+    private final ParallelRebuilder parallelRebuilder;
+
+    public LeaveAnalyticsService(LeaveAggregates leaveAggregates,
+                                 LeaveAggregatesRebuild leaveAggregatesRebuild,
+                                 ParallelRebuilder parallelRebuilder) {
+        this.leaveAggregates = leaveAggregates;
+        this.leaveAggregatesRebuild = leaveAggregatesRebuild;
+        this.parallelRebuilder = parallelRebuilder;
+    }
+
+    public Result<List<LeaveDaysByDepartmentRow>> getApprovedDaysByDepartment(YearMonth from, YearMonth to, Long departmentId) {
+        List<String> errors = validateRange(from, to);
+        if (!errors.isEmpty()) {
+            return Result.failure("Invalid month range", errors);
+        }
+        List<LeaveDaysByDepartmentRow> rows = leaveAggregates.approvedDaysByDepartment(from, to, departmentId);
+        return Result.success(rows, "Approved leave days per department and month retrieved successfully.");
+    }
+
+    public Result<List<RejectionRateRow>> getRejectionRateByManager(YearMonth from, YearMonth to) {
+        List<String> errors = validateRange(from, to);
+        if (!errors.isEmpty()) {
+            return Result.failure("Invalid month range", errors);
+        }
+        List<RejectionRateRow> rows = leaveAggregates.rejectionRateByManager(from, to);
+        return Result.success(rows, "Rejection rate per manager retrieved successfully.");
+    }
+
+    // The rebuild runs in the background, poll getRebuildProgress until it is done
+    public Result<RebuildProgress> startRebuild() {
+        try {
+            RebuildProgress progress = parallelRebuilder.start(leaveAggregatesRebuild).progress();
+            return Result.success(progress, "Leave statistics rebuild started.");
+        } catch (IllegalStateException e) {
+            return Result.failure("Rebuild already running", List.of(e.getMessage()));
+        }
+    }
+
+    public Result<RebuildProgress> getRebuildProgress() {
+        return parallelRebuilder.find(LeaveAggregatesRebuild.NAME)
+                .map(run -> Result.success(run.progress(), "Leave statistics rebuild progress retrieved successfully."))
+                .orElseGet(() -> Result.failure("No rebuild found", List.of("The leave statistics have not been rebuilt since startup")));
+    }
+
+    public Result<RebuildProgress> cancelRebuild() {
+        return parallelRebuilder.find(LeaveAggregatesRebuild.NAME)
+                .filter(run -> !run.progress().isDone())
+                .map(run -> {
+                    run.cancel();
+                    return Result.success(run.progress(), "Leave statistics rebuild cancelled.");
+                })
+                .orElseGet(() -> Result.failure("No rebuild found", List.of("No leave statistics rebuild is running")));
+    }
+
+    private static List<String> validateRange(YearMonth from, YearMonth to) {
+        if (to.isBefore(from)) {
+            return List.of("End month cannot be before start month");
+        }
+        if (from.plusMonths(MAX_MONTHS).isBefore(to.plusMonths(1))) {
+            return List.of("A report can cover at most " + MAX_MONTHS + " months");
+        }
+        return List.of();
+    }
+}
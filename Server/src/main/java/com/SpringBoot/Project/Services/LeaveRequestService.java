@@ -1,12 +1,20 @@
 package com.SpringBoot.Project.Services;
 
+import com.SpringBoot.Project.Analytics.LeaveAggregates;
+import com.SpringBoot.Project.Dto.LeaveRequestChange;
 import com.SpringBoot.Project.Models.Employee;
 import com.SpringBoot.Project.Models.LeaveRequest;
 import com.SpringBoot.Project.Models.Result;
+import com.SpringBoot.Project.Models.Status;
+import com.SpringBoot.Project.Outbox.LeaveEventOutbox;
 import com.SpringBoot.Project.Repositories.EmployeeInterface;
 import com.SpringBoot.Project.Repositories.LeaveRequestInterface;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -20,13 +28,27 @@ public class LeaveRequestService {
     @Autowired
     private EmployeeInterface employeeInterface;
 
+    // Monthly statistics behind the reports, updated in the same transaction as every status change
+    @Autowired
+    private LeaveAggregates leaveAggregates;
+
+    // Submissions and status changes are announced to other systems through the outbox, written in the same transaction
+    @Autowired
+    private LeaveEventOutbox leaveEventOutbox;
+
+    // Submissions and updates are pushed to the open leave streams once the transaction commits
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Get all leave requests
+    @Transactional(readOnly = true)
     public Result<List<LeaveRequest>> getAllLeaveRequests() {
         List<LeaveRequest> leaveRequests = leaveRequestInterface.findAll();
         return Result.success(leaveRequests, "All leave requests retrieved successfully.");
     }
 
     // Submit a new leave request
+    @Transactional
     public Result<LeaveRequest> submitLeaveRequest(LeaveRequest leaveRequest, Long employeeId) {
         // Check employee exists first
         Optional<Employee> employeeOptional = employeeInterface.findById(employeeId);
@@ -48,6 +70,7 @@ public class LeaveRequestService {
 
         Employee employee = employeeOptional.get();
         leaveRequest.setEmployee(employee);
+        leaveRequest.setDecidedBy(decidedBy(leaveRequest.getStatus()));
 
         // Check for overlapping leave requests
         List<LeaveRequest> overlappingRequests = leaveRequestInterface.findOverlappingLeaveRequests(
@@ -63,19 +86,35 @@ public class LeaveRequestService {
 
         try {
             LeaveRequest savedLeaveRequest = leaveRequestInterface.save(leaveRequest);
+            leaveAggregates.recordTransition(leaveRequest, null, null);
+            leaveEventOutbox.submitted(leaveRequest);
+            // Flush here so constraint violations land in this catch rather than at commit
+            leaveRequestInterface.flush();
+            eventPublisher.publishEvent(change(LeaveRequestChange.Type.CREATED, leaveRequest));
             return Result.success(savedLeaveRequest, "Leave request submitted successfully!");
         } catch (Exception e) {
+            // The request, its counters and its outbox event go together, none of them may commit alone
+            Transactions.rollbackOnly();
             return Result.failure("Failed to submit leave request", List.of(e.getMessage()));
         }
     }
 
     // Update a leave request (approve/reject)
+    @Transactional
     public Result<LeaveRequest> updateLeaveRequest(Long id, LeaveRequest updatedRequest) {
         Optional<LeaveRequest> existingRequest = leaveRequestInterface.findById(id);
         if (existingRequest.isPresent()) {
             LeaveRequest request = existingRequest.get();
+            Status previousStatus = request.getStatus();
+            String previousDecidedBy = request.getDecidedBy();
             request.setStatus(updatedRequest.getStatus());
+            request.setDecidedBy(decidedBy(updatedRequest.getStatus()));
             leaveRequestInterface.save(request);
+            leaveAggregates.recordTransition(request, previousStatus, previousDecidedBy);
+            if (previousStatus != request.getStatus()) {
+                leaveEventOutbox.statusChanged(request, previousStatus);
+            }
+            eventPublisher.publishEvent(change(LeaveRequestChange.Type.UPDATED, request));
             return Result.success(request, "Leave request updated successfully.");
         } else {
             return Result.failure("Leave request not found.", List.of("No leave request found with id: " + id));
@@ -83,12 +122,31 @@ public class LeaveRequestService {
     }
 
     // Delete a leave request
+    @Transactional
     public Result<Void> deleteLeaveRequest(Long id) {
-        if (leaveRequestInterface.existsById(id)) {
-            leaveRequestInterface.deleteById(id);
+        Optional<LeaveRequest> existingRequest = leaveRequestInterface.findById(id);
+        if (existingRequest.isPresent()) {
+            leaveRequestInterface.delete(existingRequest.get());
+            leaveAggregates.recordRemoval(existingRequest.get());
             return Result.success(null, "Leave request deleted successfully.");
         } else {
             return Result.failure("Leave request not found.", List.of("No leave request found with id: " + id));
         }
     }
+
+    private static LeaveRequestChange change(LeaveRequestChange.Type type, LeaveRequest request) {
+        Employee employee = request.getEmployee();
+        return new LeaveRequestChange(type, request.getId(), employee.getEmployeeId(),
+                employee.getDepartment().getDepartmentId(), request.getStatus(), request.getDecidedBy(),
+                request.getStartDate(), request.getEndDate());
+    }
+
+    // Approvals and rejections are attributed to the signed in user, pending requests have no decider
+    private static String decidedBy(Status status) {
+        if (status != Status.APPROVED && status != Status.REJECTED) {
+            return null;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
 }
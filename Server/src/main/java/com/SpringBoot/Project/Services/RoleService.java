@@ -5,6 +5,7 @@ import com.SpringBoot.Project.Models.Roles;
 import com.SpringBoot.Project.Repositories.RoleInterface;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +19,7 @@ public class RoleService {
         this.roleInterface = roleInterface;
     }
 
+    @Transactional(readOnly = true)
     public Result<Roles> getRoleById(Integer id){
         Optional<Roles> roles = roleInterface.findById(id);
         if(roles.isPresent()){
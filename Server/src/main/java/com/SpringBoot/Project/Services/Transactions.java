@@ -0,0 +1,20 @@
+package com.SpringBoot.Project.Services;
+
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// For @Transactional service methods that turn a failed write into a failure Result instead of throwing
+final class Transactions {
+
+    private Transactions() {
+    }
+
+    // A failed repository call has already marked the transaction for rollback. Marking it here as well makes the
+    // commit roll back quietly, so the caller gets the failure Result instead of an UnexpectedRollbackException.
+    // Outside a transaction (the Mockito unit tests) there is nothing to mark.
+    static void rollbackOnly() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.SpringBoot.Project.Models.UserEntity;
 import com.SpringBoot.Project.Repositories.UserInterface;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +20,7 @@ public class UserEntityService {
         this.userInterface = userInterface;
     }
 
+    @Transactional(readOnly = true)
     public Result<UserEntity> getUserByUsername(String username){
         Optional<UserEntity> userEntity = userInterface.findByUsername(username);
 
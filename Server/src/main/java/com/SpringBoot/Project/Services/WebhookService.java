@@ -0,0 +1,95 @@
+package com.SpringBoot.Project.Services;
+
+import com.SpringBoot.Project.Dto.WebhookEndpointStatus;
+import com.SpringBoot.Project.Models.Result;
+import com.SpringBoot.Project.Models.WebhookSubscription;
+import com.SpringBoot.Project.Outbox.LeaveEventOutbox;
+import com.SpringBoot.Project.Repositories.WebhookSubscriptionInterface;
+import com.SpringBoot.Project.Webhooks.WebhookDelivery;
+import com.SpringBoot.Project.Webhooks.WebhookSink;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+public class WebhookService {
+
+    static final Set<String> EVENT_TYPES = Set.of(LeaveEventOutbox.SUBMITTED, LeaveEventOutbox.STATUS_CHANGED);
+
+    private final WebhookSubscriptionInterface webhookSubscriptionInterface;
+    private final WebhookSink webhookSink;
+    private final WebhookDelivery webhookDelivery;
+
+    public WebhookService(WebhookSubscriptionInterface webhookSubscriptionInterface, WebhookSink webhookSink,
+                          WebhookDelivery webhookDelivery) {
+        this.webhookSubscriptionInterface = webhookSubscriptionInterface;
+        this.webhookSink = webhookSink;
+        this.webhookDelivery = webhookDelivery;
+    }
+
+    public Result<List<WebhookSubscription>> getAllSubscriptions() {
+        return Result.success(webhookSubscriptionInterface.findAll(), "Webhook subscriptions retrieved successfully.");
+    }
+
+    public Result<WebhookSubscription> subscribe(WebhookSubscription subscription) {
+        List<String> errors = validate(subscription);
+        if (!errors.isEmpty()) {
+            return Result.failure("Invalid webhook subscription", errors);
+        }
+        subscription.setCreatedAt(LocalDateTime.now());
+        WebhookSubscription saved = webhookSubscriptionInterface.save(subscription);
+        webhookSink.reload();
+        return Result.success(saved, "Webhook subscription created.");
+    }
+
+    public Result<Void> unsubscribe(long id) {
+        if (!webhookSubscriptionInterface.existsById(id)) {
+            return Result.failure("Webhook subscription not found.", List.of("No webhook subscription found with id: " + id));
+        }
+        webhookSubscriptionInterface.deleteById(id);
+        webhookSink.reload();
+        return Result.success(null, "Webhook subscription deleted.");
+    }
+
+    public Result<WebhookEndpointStatus> getStatus(long id) {
+        Optional<WebhookSubscription> subscription = webhookSubscriptionInterface.findById(id);
+        if (subscription.isEmpty()) {
+            return Result.failure("Webhook subscription not found.", List.of("No webhook subscription found with id: " + id));
+        }
+        // Nothing was sent to it since startup
+        WebhookEndpointStatus status = webhookDelivery.status(id).orElseGet(() -> new WebhookEndpointStatus(id,
+                subscription.get().getUrl(), WebhookDelivery.Circuit.CLOSED.name(), 0, 0, 0, 0, 0));
+        return Result.success(status, "Webhook delivery status retrieved.");
+    }
+
+    private static List<String> validate(WebhookSubscription subscription) {
+        List<String> errors = new ArrayList<>();
+        if (subscription.getUrl() == null || subscription.getUrl().isBlank()) {
+            errors.add("URL is required");
+        } else {
+            try {
+                URI uri = new URI(subscription.getUrl());
+                if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())
+                        || uri.getHost() == null) {
+                    errors.add("URL must be an absolute http or https URL");
+                }
+            } catch (URISyntaxException e) {
+                errors.add("URL is not valid: " + e.getMessage());
+            }
+        }
+        if (subscription.getEventTypes() != null && !subscription.getEventTypes().isBlank()) {
+            Arrays.stream(subscription.getEventTypes().split(","))
+                    .map(String::trim)
+                    .filter(type -> !EVENT_TYPES.contains(type))
+                    .forEach(type -> errors.add("Unknown event type: " + type));
+        }
+        return errors;
+    }
+}
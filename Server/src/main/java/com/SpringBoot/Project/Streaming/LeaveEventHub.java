@@ -0,0 +1,264 @@
+package com.SpringBoot.Project.Streaming;
+
+import com.SpringBoot.Project.Dto.LeaveRequestChange;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Fans leave request changes out to the open SSE streams (GET /api/leaves/stream).
+//
+// An idle stream is an SseEmitter on a suspended async request plus an empty queue, no thread. Subscribers are
+// indexed by department so a change only touches the streams that want it, and each event is serialized once. A
+// department's entry goes away with its last subscriber, so arbitrary department ids can't grow the index.
+// Writes happen on a small shared sender pool: every subscriber has a bounded buffer, and one whose buffer is
+// full is slow. By default a slow subscriber is disconnected (the browser's EventSource reconnects and reloads
+// the list), with app.leave-stream.slow-consumer=drop-oldest it loses its oldest buffered events instead.
+//
+// Events are in-memory and per instance, a stream sees the changes made through the instance it is connected to.
+@Component
+public class LeaveEventHub {
+
+    private static final Logger logger = LogManager.getLogger(LeaveEventHub.class);
+
+    // Frames one sender writes to a subscriber before giving the thread to the next one
+    private static final int MAX_FRAMES_PER_TURN = 32;
+
+    public enum SlowConsumerPolicy {
+        DISCONNECT,
+        DROP_OLDEST
+    }
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final SlowConsumerPolicy slowConsumerPolicy;
+    private final long timeoutMillis;
+    private final ExecutorService senders;
+
+    private final Map<Long, Set<Subscriber>> byDepartment = new ConcurrentHashMap<>();
+    private final Set<Subscriber> allDepartments = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final Counter dropped;
+    private final Counter disconnected;
+
+    public LeaveEventHub(ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.leave-stream.buffer-size:64}") int bufferSize,
+                         @Value("${app.leave-stream.slow-consumer:disconnect}") String slowConsumerPolicy,
+                         @Value("${app.leave-stream.timeout:30m}") Duration timeout,
+                         @Value("${app.leave-stream.sender-threads:2}") int senderThreads) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.slowConsumerPolicy = SlowConsumerPolicy.valueOf(slowConsumerPolicy.trim().replace('-', '_').toUpperCase());
+        this.timeoutMillis = timeout.toMillis();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(Math.max(1, senderThreads), runnable -> {
+            Thread thread = new Thread(runnable, "leave-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("leave.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open leave request event streams").register(meterRegistry);
+        this.dropped = Counter.builder("leave.stream.dropped")
+                .description("Events not delivered to a slow stream").register(meterRegistry);
+        this.disconnected = Counter.builder("leave.stream.disconnected")
+                .description("Streams closed for being too slow").register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long departmentId) {
+        return subscribe(departmentId, new SseEmitter(timeoutMillis));
+    }
+
+    // Registers an emitter created by the caller, departmentId null receives every department
+    public SseEmitter subscribe(Long departmentId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, departmentId);
+        add(subscriber);
+        subscriberCount.incrementAndGet();
+        emitter.onCompletion(subscriber::remove);
+        emitter.onTimeout(subscriber::remove);
+        emitter.onError(error -> subscriber.remove());
+        // Sends the response headers right away, so the client sees the stream as open
+        subscriber.offer(SseEmitter.event().comment("connected").build());
+        return emitter;
+    }
+
+    // After commit, so a stream never announces a change that was rolled back
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLeaveRequestChange(LeaveRequestChange change) {
+        publish(change);
+    }
+
+    public void publish(LeaveRequestChange change) {
+        Set<Subscriber> department = byDepartment.get(change.departmentId());
+        if (allDepartments.isEmpty() && (department == null || department.isEmpty())) {
+            return;
+        }
+        Set<DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                    .id(Long.toString(eventIds.incrementAndGet()))
+                    .name(change.type().name().toLowerCase())
+                    .data(objectMapper.writeValueAsString(change))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        allDepartments.forEach(subscriber -> subscriber.offer(frame));
+        if (department != null) {
+            department.forEach(subscriber -> subscriber.offer(frame));
+        }
+    }
+
+    // Keeps proxies from closing idle streams and finds the clients that went away without saying so
+    @Scheduled(fixedDelayString = "${app.leave-stream.heartbeat-interval:15000}",
+            initialDelayString = "${app.leave-stream.heartbeat-interval:15000}")
+    public void heartbeat() {
+        Set<DataWithMediaType> frame = SseEmitter.event().comment("heartbeat").build();
+        allDepartments.forEach(subscriber -> subscriber.offer(frame));
+        byDepartment.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.offer(frame)));
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        allDepartments.forEach(Subscriber::close);
+        byDepartment.values().forEach(subscribers -> subscribers.forEach(Subscriber::close));
+        senders.shutdown();
+    }
+
+    // Per department under the map's lock for the key, a subscriber never lands in a set that was just dropped
+    private void add(Subscriber subscriber) {
+        if (subscriber.departmentId == null) {
+            allDepartments.add(subscriber);
+            return;
+        }
+        byDepartment.compute(subscriber.departmentId, (id, subscribers) -> {
+            Set<Subscriber> set = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            set.add(subscriber);
+            return set;
+        });
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscriber.departmentId == null) {
+            allDepartments.remove(subscriber);
+            return;
+        }
+        byDepartment.computeIfPresent(subscriber.departmentId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long departmentId;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        private volatile boolean closing;
+
+        Subscriber(SseEmitter emitter, Long departmentId) {
+            this.emitter = emitter;
+            this.departmentId = departmentId;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        // Called on the publishing thread, never blocks
+        void offer(Set<DataWithMediaType> frame) {
+            if (removed.get()) {
+                return;
+            }
+            if (!buffer.offer(frame)) {
+                dropped.increment();
+                if (slowConsumerPolicy == SlowConsumerPolicy.DISCONNECT) {
+                    disconnected.increment();
+                    logger.info("Closing slow leave event stream for department {}", departmentId);
+                    close();
+                    return;
+                }
+                buffer.poll();
+                if (!buffer.offer(frame)) {
+                    dropped.increment();
+                }
+            }
+            schedule();
+        }
+
+        // The emitter is only ever written and completed by the drain, a blocked write then holds up this
+        // subscriber alone and not the thread that published the change
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                if (closing) {
+                    emitter.complete();
+                    return;
+                }
+                for (int sent = 0; sent < MAX_FRAMES_PER_TURN; sent++) {
+                    Set<DataWithMediaType> frame = buffer.poll();
+                    if (frame == null) {
+                        break;
+                    }
+                    emitter.send(frame);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the emitter already completed
+                remove();
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            // Requeue behind the other subscribers if more arrived meanwhile or the turn ran out
+            if (closing || (!buffer.isEmpty() && !removed.get())) {
+                schedule();
+            }
+        }
+
+        void close() {
+            remove();
+            closing = true;
+            schedule();
+        }
+
+        void remove() {
+            if (removed.compareAndSet(false, true)) {
+                LeaveEventHub.this.remove(this);
+                subscriberCount.decrementAndGet();
+                buffer.clear();
+            }
+        }
+    }
+}
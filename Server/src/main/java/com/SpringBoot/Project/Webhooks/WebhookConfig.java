@@ -0,0 +1,28 @@
+package com.SpringBoot.Project.Webhooks;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class WebhookConfig {
+
+    @Bean
+    public WebhookDelivery.Settings webhookDeliverySettings(
+            @Value("${app.webhooks.threads:4}") int threads,
+            @Value("${app.webhooks.batch-size:50}") int batchSize,
+            @Value("${app.webhooks.max-concurrency:2}") int maxConcurrency,
+            @Value("${app.webhooks.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.webhooks.max-attempts:8}") int maxAttempts,
+            @Value("${app.webhooks.initial-backoff:1s}") Duration initialBackoff,
+            @Value("${app.webhooks.max-backoff:5m}") Duration maxBackoff,
+            @Value("${app.webhooks.failure-threshold:5}") int failureThreshold,
+            @Value("${app.webhooks.open-duration:30s}") Duration openDuration,
+            @Value("${app.webhooks.timeout:5s}") Duration timeout) {
+        return new WebhookDelivery.Settings(threads, Math.max(1, batchSize), Math.max(1, maxConcurrency),
+                queueCapacity, Math.max(1, maxAttempts), initialBackoff, maxBackoff, Math.max(1, failureThreshold),
+                openDuration, timeout);
+    }
+}
@@ -0,0 +1,332 @@
+package com.SpringBoot.Project.Webhooks;
+
+import com.SpringBoot.Project.Dto.WebhookEndpointStatus;
+import com.SpringBoot.Project.Models.WebhookSubscription;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Sends events to webhook endpoints without ever blocking the caller.
+//
+// Every endpoint has its own bounded queue of events (app.webhooks.queue-capacity), from which up to
+// app.webhooks.batch-size events at a time are POSTed as one JSON array. At most app.webhooks.max-concurrency
+// requests per endpoint are in flight, the HTTP client is asynchronous so waiting for a slow receiver holds no
+// thread. A failed batch is retried after an exponential backoff with jitter, up to app.webhooks.max-attempts.
+// After app.webhooks.failure-threshold consecutive failures the endpoint's circuit opens: nothing is sent to it
+// for app.webhooks.open-duration, then a single probe batch decides whether it closes again. Events arriving for
+// an endpoint whose queue is full are dropped and counted, so one dead receiver costs a fixed amount of memory.
+//
+// 4xx responses other than 408 and 429 mean the receiver rejected the batch, those are not retried.
+@Component
+public class WebhookDelivery {
+
+    private static final Logger logger = LogManager.getLogger(WebhookDelivery.class);
+
+    public static final String SIGNATURE_HEADER = "X-Webhook-Signature";
+    public static final String ATTEMPT_HEADER = "X-Webhook-Attempt";
+
+    public record Settings(int threads,
+                           int batchSize,
+                           int maxConcurrency,
+                           int queueCapacity,
+                           int maxAttempts,
+                           Duration initialBackoff,
+                           Duration maxBackoff,
+                           int failureThreshold,
+                           Duration openDuration,
+                           Duration timeout) {
+    }
+
+    public enum Circuit {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final Settings settings;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+    private final HttpClient httpClient;
+    private final Map<Long, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter dropped;
+    private final Timer requests;
+
+    public WebhookDelivery(MeterRegistry meterRegistry, Settings settings) {
+        this.settings = settings;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, settings.threads()), runnable -> {
+            Thread thread = new Thread(runnable, "webhook-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "webhook-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(settings.timeout())
+                .executor(executor)
+                .build();
+        this.delivered = Counter.builder("leave.webhooks.events").tag("outcome", "delivered")
+                .description("Events accepted by a webhook endpoint").register(meterRegistry);
+        this.retried = Counter.builder("leave.webhooks.events").tag("outcome", "retried")
+                .description("Events in a failed batch that will be retried").register(meterRegistry);
+        this.failed = Counter.builder("leave.webhooks.events").tag("outcome", "failed")
+                .description("Events given up on after app.webhooks.max-attempts or rejected by the receiver")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("leave.webhooks.events").tag("outcome", "dropped")
+                .description("Events not queued because the endpoint's queue was full").register(meterRegistry);
+        this.requests = Timer.builder("leave.webhooks.requests")
+                .description("Webhook POSTs, successful or not").register(meterRegistry);
+    }
+
+    // Queues events (OutboxEnvelope JSON documents) for the subscription. Returns false when its queue is full and
+    // the events were dropped.
+    public boolean submit(WebhookSubscription subscription, List<String> events) {
+        Endpoint endpoint = endpoints.computeIfAbsent(subscription.getId(),
+                id -> new Endpoint(id, URI.create(subscription.getUrl()), subscription.getSecret()));
+        synchronized (endpoint) {
+            if (endpoint.removed) {
+                return false;
+            }
+            if (endpoint.pending + events.size() > settings.queueCapacity()) {
+                endpoint.dropped += events.size();
+                dropped.increment(events.size());
+                if (!endpoint.overflowLogged) {
+                    endpoint.overflowLogged = true;
+                    logger.error("Webhook queue for subscription {} is full, dropping events until it drains", endpoint.id);
+                }
+                return false;
+            }
+            endpoint.overflowLogged = false;
+            endpoint.queue.addAll(events);
+            endpoint.pending += events.size();
+        }
+        pump(endpoint);
+        return true;
+    }
+
+    public Optional<WebhookEndpointStatus> status(long subscriptionId) {
+        Endpoint endpoint = endpoints.get(subscriptionId);
+        if (endpoint == null) {
+            return Optional.empty();
+        }
+        synchronized (endpoint) {
+            return Optional.of(new WebhookEndpointStatus(endpoint.id, endpoint.url.toString(), endpoint.circuit.name(),
+                    endpoint.pending, endpoint.inFlight, endpoint.delivered, endpoint.failed, endpoint.dropped));
+        }
+    }
+
+    // Forgets the endpoints of subscriptions that no longer exist, their queued events are discarded
+    public void retain(Set<Long> subscriptionIds) {
+        endpoints.values().removeIf(endpoint -> {
+            if (subscriptionIds.contains(endpoint.id)) {
+                return false;
+            }
+            synchronized (endpoint) {
+                endpoint.removed = true;
+                endpoint.queue.clear();
+                endpoint.retries.clear();
+            }
+            return true;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    // Starts as many batches as the endpoint's concurrency limit and circuit allow
+    private void pump(Endpoint endpoint) {
+        while (true) {
+            Batch batch;
+            synchronized (endpoint) {
+                if (endpoint.removed || endpoint.inFlight >= settings.maxConcurrency()) {
+                    return;
+                }
+                if (endpoint.circuit == Circuit.OPEN) {
+                    if (System.nanoTime() < endpoint.openUntil) {
+                        return;
+                    }
+                    endpoint.circuit = Circuit.HALF_OPEN;
+                }
+                // A half open circuit lets one probe through at a time
+                if (endpoint.circuit == Circuit.HALF_OPEN && endpoint.inFlight > 0) {
+                    return;
+                }
+                batch = endpoint.retries.poll();
+                if (batch == null) {
+                    if (endpoint.queue.isEmpty()) {
+                        return;
+                    }
+                    List<String> events = new ArrayList<>(Math.min(settings.batchSize(), endpoint.queue.size()));
+                    while (events.size() < settings.batchSize() && !endpoint.queue.isEmpty()) {
+                        events.add(endpoint.queue.poll());
+                    }
+                    batch = new Batch(events, 1);
+                }
+                endpoint.inFlight++;
+            }
+            send(endpoint, batch);
+        }
+    }
+
+    private void send(Endpoint endpoint, Batch batch) {
+        String body = "[" + String.join(",", batch.events()) + "]";
+        HttpRequest.Builder request = HttpRequest.newBuilder(endpoint.url)
+                .timeout(settings.timeout())
+                .header("Content-Type", "application/json")
+                .header(ATTEMPT_HEADER, Integer.toString(batch.attempt()))
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+        if (endpoint.secret != null && !endpoint.secret.isEmpty()) {
+            request.header(SIGNATURE_HEADER, "sha256=" + sign(endpoint.secret, body));
+        }
+        long started = System.nanoTime();
+        CompletableFuture<HttpResponse<Void>> response;
+        try {
+            response = httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding());
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((result, error) -> {
+            requests.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            int status = result != null ? result.statusCode() : 0;
+            completed(endpoint, batch, status, error);
+        });
+    }
+
+    private void completed(Endpoint endpoint, Batch batch, int status, Throwable error) {
+        int size = batch.events().size();
+        boolean success = error == null && status >= 200 && status < 300;
+        boolean rejected = error == null && status >= 400 && status < 500 && status != 408 && status != 429;
+        synchronized (endpoint) {
+            endpoint.inFlight--;
+            if (success || rejected) {
+                endpoint.pending -= size;
+                endpoint.consecutiveFailures = 0;
+                endpoint.circuit = Circuit.CLOSED;
+                if (success) {
+                    endpoint.delivered += size;
+                    delivered.increment(size);
+                } else {
+                    endpoint.failed += size;
+                    failed.increment(size);
+                    logger.error("Webhook subscription {} rejected {} events with HTTP {}", endpoint.id, size, status);
+                }
+            } else {
+                String reason = error != null ? error.toString() : "HTTP " + status;
+                endpoint.consecutiveFailures++;
+                if (endpoint.circuit != Circuit.OPEN && (endpoint.circuit == Circuit.HALF_OPEN
+                        || endpoint.consecutiveFailures >= settings.failureThreshold())) {
+                    endpoint.circuit = Circuit.OPEN;
+                    endpoint.openUntil = System.nanoTime() + settings.openDuration().toNanos();
+                    logger.warn("Opening circuit for webhook subscription {} after {} failures: {}",
+                            endpoint.id, endpoint.consecutiveFailures, reason);
+                    later(() -> pump(endpoint), settings.openDuration());
+                }
+                if (batch.attempt() >= settings.maxAttempts()) {
+                    endpoint.pending -= size;
+                    endpoint.failed += size;
+                    failed.increment(size);
+                    logger.error("Giving up on {} events for webhook subscription {} after {} attempts: {}",
+                            size, endpoint.id, batch.attempt(), reason);
+                } else {
+                    retried.increment(size);
+                    Batch retry = new Batch(batch.events(), batch.attempt() + 1);
+                    later(() -> {
+                        synchronized (endpoint) {
+                            if (endpoint.removed) {
+                                return;
+                            }
+                            endpoint.retries.add(retry);
+                        }
+                        pump(endpoint);
+                    }, backoff(batch.attempt()));
+                }
+            }
+        }
+        pump(endpoint);
+    }
+
+    // initial-backoff doubled per attempt up to max-backoff, of which a random half is waited so that endpoints
+    // failing together don't retry in lockstep
+    Duration backoff(int attempt) {
+        long cap = settings.maxBackoff().toNanos();
+        long delay = settings.initialBackoff().toNanos();
+        for (int i = 1; i < attempt && delay < cap; i++) {
+            delay *= 2;
+        }
+        delay = Math.min(delay, cap);
+        return Duration.ofNanos(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+    }
+
+    private void later(Runnable task, Duration delay) {
+        try {
+            scheduler.schedule(task, delay.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down, queued events are not delivered
+        }
+    }
+
+    private static String sign(String secret, String body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private record Batch(List<String> events, int attempt) {
+    }
+
+    // Mutable state of one endpoint, guarded by the instance
+    private static final class Endpoint {
+        final long id;
+        final URI url;
+        final String secret;
+        final Deque<String> queue = new ArrayDeque<>();
+        final Deque<Batch> retries = new ArrayDeque<>();
+        int pending;
+        int inFlight;
+        Circuit circuit = Circuit.CLOSED;
+        int consecutiveFailures;
+        long openUntil;
+        long delivered;
+        long failed;
+        long dropped;
+        boolean overflowLogged;
+        boolean removed;
+
+        Endpoint(long id, URI url, String secret) {
+            this.id = id;
+            this.url = url;
+            this.secret = secret;
+        }
+    }
+}
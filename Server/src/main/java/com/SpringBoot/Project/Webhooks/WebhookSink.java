@@ -0,0 +1,80 @@
+package com.SpringBoot.Project.Webhooks;
+
+import com.SpringBoot.Project.Models.OutboxEvent;
+import com.SpringBoot.Project.Models.WebhookSubscription;
+import com.SpringBoot.Project.Outbox.OutboxEnvelope;
+import com.SpringBoot.Project.Outbox.OutboxSink;
+import com.SpringBoot.Project.Repositories.WebhookSubscriptionInterface;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Hands the outbox's leave events to WebhookDelivery, one queue per subscribed endpoint.
+//
+// Queuing never blocks or fails, so a slow or dead endpoint doesn't hold up the relay or the other sinks. The
+// trade-off is that events are marked published once queued: events still queued when the application stops, or
+// dropped because an endpoint's queue was full, are not sent again. With app.webhooks.max-concurrency above 1 the
+// batches of one endpoint can arrive out of order, receivers order by the event id.
+@Component
+public class WebhookSink implements OutboxSink {
+
+    private final WebhookSubscriptionInterface webhookSubscriptionInterface;
+    private final WebhookDelivery webhookDelivery;
+    private final ObjectMapper objectMapper;
+    private volatile List<WebhookSubscription> subscriptions;
+
+    public WebhookSink(WebhookSubscriptionInterface webhookSubscriptionInterface, WebhookDelivery webhookDelivery,
+                       ObjectMapper objectMapper) {
+        this.webhookSubscriptionInterface = webhookSubscriptionInterface;
+        this.webhookDelivery = webhookDelivery;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return "webhooks";
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) throws JsonProcessingException {
+        List<WebhookSubscription> current = subscriptions;
+        if (current == null) {
+            current = load();
+        }
+        if (current.isEmpty()) {
+            return;
+        }
+        // Serialized once for all endpoints
+        Map<OutboxEvent, String> envelopes = new IdentityHashMap<>();
+        for (OutboxEvent event : events) {
+            envelopes.put(event, objectMapper.writeValueAsString(OutboxEnvelope.toJson(event, objectMapper)));
+        }
+        for (WebhookSubscription subscription : current) {
+            List<String> accepted = events.stream()
+                    .filter(event -> subscription.accepts(event.getEventType()))
+                    .map(envelopes::get)
+                    .toList();
+            if (!accepted.isEmpty()) {
+                webhookDelivery.submit(subscription, accepted);
+            }
+        }
+    }
+
+    // Picks up subscriptions changed through another instance, changes made here reload right away
+    @Scheduled(fixedDelayString = "${app.webhooks.refresh-interval:60000}",
+            initialDelayString = "${app.webhooks.refresh-interval:60000}")
+    public void reload() {
+        load();
+    }
+
+    private List<WebhookSubscription> load() {
+        List<WebhookSubscription> loaded = List.copyOf(webhookSubscriptionInterface.findAll());
+        webhookDelivery.retain(loaded.stream().map(WebhookSubscription::getId).collect(Collectors.toSet()));
+        subscriptions = loaded;
+        return loaded;
+    }
+}
@@ -0,0 +1,62 @@
+-- H2 copy of db/migration/oracle, used by the tests and the native profile. Keep the two in step.
+
+create sequence department_seq start with 1 increment by 50;
+create sequence employee_seq start with 1 increment by 50;
+create sequence leave_request_seq start with 1 increment by 50;
+create sequence roles_seq start with 1 increment by 50;
+create sequence user_entity_seq start with 1 increment by 50;
+
+create table department (
+    department_id bigint not null,
+    name varchar(255) not null,
+    description varchar(255),
+    constraint pk_department primary key (department_id),
+    constraint uk_department_name unique (name)
+);
+
+create table roles (
+    id integer not null,
+    name varchar(255) not null,
+    constraint pk_roles primary key (id)
+);
+
+create table user_entity (
+    id integer not null,
+    username varchar(255) not null,
+    password varchar(255) not null,
+    constraint pk_user_entity primary key (id)
+);
+
+create table user_roles (
+    user_id integer not null,
+    role_id integer not null,
+    constraint fk_user_roles_user foreign key (user_id) references user_entity (id),
+    constraint fk_user_roles_role foreign key (role_id) references roles (id)
+);
+
+create table employee (
+    employee_id bigint not null,
+    name varchar(255) not null,
+    email varchar(255) not null,
+    department_id bigint not null,
+    roles_id integer not null,
+    user_entity_id integer not null,
+    constraint pk_employee primary key (employee_id),
+    constraint uk_employee_email unique (email),
+    constraint fk_employee_department foreign key (department_id) references department (department_id),
+    constraint fk_employee_roles foreign key (roles_id) references roles (id),
+    constraint fk_employee_user_entity foreign key (user_entity_id) references user_entity (id)
+);
+
+create table leave_request (
+    id bigint not null,
+    employee_id bigint not null,
+    start_date date not null,
+    end_date date not null,
+    status varchar(255) not null,
+    reason varchar(255) not null,
+    manager_comment varchar(255),
+    constraint pk_leave_request primary key (id),
+    constraint ck_leave_request_status check (status in ('APPROVED', 'PENDING', 'REJECTED')),
+    constraint fk_leave_request_employee foreign key (employee_id) references employee (employee_id)
+);
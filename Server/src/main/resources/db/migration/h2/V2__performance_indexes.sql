@@ -0,0 +1,14 @@
+-- H2 copy of db/migration/oracle, keep the two in step.
+
+-- Overlap check on submit and the per-employee / per-status listings
+create index ix_leave_request_emp_status on leave_request (employee_id, status, start_date, end_date);
+
+create index ix_employee_department on employee (department_id);
+create index ix_employee_roles on employee (roles_id);
+create index ix_employee_user_entity on employee (user_entity_id);
+
+-- Roles are fetched eagerly with every user lookup
+create index ix_user_roles_user on user_roles (user_id, role_id);
+create index ix_user_roles_role on user_roles (role_id);
+
+alter table user_entity add constraint uk_user_entity_username unique (username);
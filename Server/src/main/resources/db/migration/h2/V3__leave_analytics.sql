@@ -0,0 +1,19 @@
+-- H2 copy of db/migration/oracle, keep the two in step.
+
+alter table leave_request add decided_by varchar(255);
+
+create table leave_stats_department_month (
+    department_id bigint not null,
+    month_start date not null,
+    approved_requests integer default 0 not null,
+    approved_days integer default 0 not null,
+    constraint pk_leave_stats_department_month primary key (department_id, month_start)
+);
+
+create table leave_stats_manager_month (
+    decided_by varchar(255) not null,
+    month_start date not null,
+    approved_requests integer default 0 not null,
+    rejected_requests integer default 0 not null,
+    constraint pk_leave_stats_manager_month primary key (decided_by, month_start)
+);
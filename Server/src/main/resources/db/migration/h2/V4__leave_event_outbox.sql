@@ -0,0 +1,17 @@
+-- H2 copy of db/migration/oracle, keep the two in step.
+
+create sequence leave_event_outbox_seq start with 1 increment by 1;
+
+create table leave_event_outbox (
+    id bigint not null,
+    employee_id bigint not null,
+    event_type varchar(64) not null,
+    payload varchar(4000) not null,
+    created_at timestamp(6) not null,
+    published_at timestamp(6),
+    attempts integer default 0 not null,
+    last_error varchar(1000),
+    constraint pk_leave_event_outbox primary key (id)
+);
+
+create index ix_leave_event_outbox_pending on leave_event_outbox (published_at, id);
@@ -0,0 +1,12 @@
+-- H2 copy of db/migration/oracle, keep the two in step.
+
+create sequence webhook_subscription_seq start with 1 increment by 1;
+
+create table webhook_subscription (
+    id bigint not null,
+    url varchar(2000) not null,
+    secret varchar(255),
+    event_types varchar(255),
+    created_at timestamp(6) not null,
+    constraint pk_webhook_subscription primary key (id)
+);
@@ -0,0 +1,14 @@
+-- H2 copy of db/migration/oracle, keep the two in step.
+
+create table idempotency_key (
+    id varchar(64) not null,
+    fingerprint varchar(64) not null,
+    status_code integer,
+    content_type varchar(255),
+    body clob,
+    created_at timestamp(6) not null,
+    expires_at timestamp(6) not null,
+    constraint pk_idempotency_key primary key (id)
+);
+
+create index ix_idempotency_key_expires on idempotency_key (expires_at);
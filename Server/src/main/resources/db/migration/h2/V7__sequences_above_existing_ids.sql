@@ -0,0 +1,7 @@
+-- H2 schemas always start from V1, so their sequences already match. Kept in step with the Oracle script all the same.
+
+alter sequence department_seq restart with (select coalesce(max(department_id), 0) + 50 from department);
+alter sequence employee_seq restart with (select coalesce(max(employee_id), 0) + 50 from employee);
+alter sequence leave_request_seq restart with (select coalesce(max(id), 0) + 50 from leave_request);
+alter sequence roles_seq restart with (select coalesce(max(id), 0) + 50 from roles);
+alter sequence user_entity_seq restart with (select coalesce(max(id), 0) + 50 from user_entity);
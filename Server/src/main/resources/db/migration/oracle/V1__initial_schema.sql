@@ -0,0 +1,64 @@
+-- Schema for new databases, matching the entities with their ids drawn from pooled sequences. Databases created
+-- earlier by ddl-auto=update have identity columns and no sequences. They are baselined at this version
+-- (spring.flyway.baseline-on-migrate), so this script only runs against empty schemas, and V7 moves their ids over.
+
+create sequence department_seq start with 1 increment by 50;
+create sequence employee_seq start with 1 increment by 50;
+create sequence leave_request_seq start with 1 increment by 50;
+create sequence roles_seq start with 1 increment by 50;
+create sequence user_entity_seq start with 1 increment by 50;
+
+create table department (
+    department_id number(19,0) not null,
+    name varchar2(255 char) not null,
+    description varchar2(255 char),
+    constraint pk_department primary key (department_id),
+    constraint uk_department_name unique (name)
+);
+
+create table roles (
+    id number(10,0) not null,
+    name varchar2(255 char) not null,
+    constraint pk_roles primary key (id)
+);
+
+create table user_entity (
+    id number(10,0) not null,
+    username varchar2(255 char) not null,
+    password varchar2(255 char) not null,
+    constraint pk_user_entity primary key (id)
+);
+
+create table user_roles (
+    user_id number(10,0) not null,
+    role_id number(10,0) not null,
+    constraint fk_user_roles_user foreign key (user_id) references user_entity (id),
+    constraint fk_user_roles_role foreign key (role_id) references roles (id)
+);
+
+create table employee (
+    employee_id number(19,0) not null,
+    name varchar2(255 char) not null,
+    email varchar2(255 char) not null,
+    department_id number(19,0) not null,
+    roles_id number(10,0) not null,
+    user_entity_id number(10,0) not null,
+    constraint pk_employee primary key (employee_id),
+    constraint uk_employee_email unique (email),
+    constraint fk_employee_department foreign key (department_id) references department (department_id),
+    constraint fk_employee_roles foreign key (roles_id) references roles (id),
+    constraint fk_employee_user_entity foreign key (user_entity_id) references user_entity (id)
+);
+
+create table leave_request (
+    id number(19,0) not null,
+    employee_id number(19,0) not null,
+    start_date date not null,
+    end_date date not null,
+    status varchar2(255 char) not null,
+    reason varchar2(255 char) not null,
+    manager_comment varchar2(255 char),
+    constraint pk_leave_request primary key (id),
+    constraint ck_leave_request_status check (status in ('APPROVED', 'PENDING', 'REJECTED')),
+    constraint fk_leave_request_employee foreign key (employee_id) references employee (employee_id)
+);
@@ -0,0 +1,25 @@
+-- Precomputed leave statistics for the reporting endpoints (Analytics package). Maintained on every status change
+-- by LeaveRequestService and recomputed from leave_request by POST /api/reports/rebuild. Both tables start empty,
+-- run the rebuild once after migrating a database that already holds leave requests.
+
+-- Username of whoever approved or rejected the request, null while it is pending
+alter table leave_request add decided_by varchar2(255 char);
+
+-- Approved requests are counted in the month they start, their days are split over the months they cover.
+-- No foreign key to department, a department with stale statistics can still be deleted.
+create table leave_stats_department_month (
+    department_id number(19,0) not null,
+    month_start date not null,
+    approved_requests number(10,0) default 0 not null,
+    approved_days number(10,0) default 0 not null,
+    constraint pk_leave_stats_department_month primary key (department_id, month_start)
+);
+
+-- Decisions per approving user, counted in the month the request starts
+create table leave_stats_manager_month (
+    decided_by varchar2(255 char) not null,
+    month_start date not null,
+    approved_requests number(10,0) default 0 not null,
+    rejected_requests number(10,0) default 0 not null,
+    constraint pk_leave_stats_manager_month primary key (decided_by, month_start)
+);
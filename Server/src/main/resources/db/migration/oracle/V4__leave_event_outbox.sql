@@ -0,0 +1,20 @@
+-- Transactional outbox (Outbox package). LeaveRequestService inserts a row in the same transaction as every
+-- status change, OutboxRelay delivers unpublished rows to the configured sinks and stamps published_at.
+
+-- Not pooled: ids are drawn while the employee row is locked, so one employee's events are numbered in commit order
+create sequence leave_event_outbox_seq start with 1 increment by 1;
+
+create table leave_event_outbox (
+    id number(19,0) not null,
+    employee_id number(19,0) not null,
+    event_type varchar2(64 char) not null,
+    payload varchar2(4000 char) not null,
+    created_at timestamp(6) not null,
+    published_at timestamp(6),
+    attempts number(10,0) default 0 not null,
+    last_error varchar2(1000 char),
+    constraint pk_leave_event_outbox primary key (id)
+);
+
+-- The relay's poll, oldest unpublished events first
+create index ix_leave_event_outbox_pending on leave_event_outbox (published_at, id);
@@ -0,0 +1,14 @@
+-- Webhook endpoints (Webhooks package) that receive the leave events relayed from leave_event_outbox
+
+create sequence webhook_subscription_seq start with 1 increment by 1;
+
+create table webhook_subscription (
+    id number(19,0) not null,
+    url varchar2(2000 char) not null,
+    -- Signs each delivery with HMAC-SHA256 when set
+    secret varchar2(255 char),
+    -- Comma separated outbox event types, null for all of them
+    event_types varchar2(255 char),
+    created_at timestamp(6) not null,
+    constraint pk_webhook_subscription primary key (id)
+);
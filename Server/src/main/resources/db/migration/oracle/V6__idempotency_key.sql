@@ -0,0 +1,19 @@
+-- Responses of POST requests sent with an Idempotency-Key header (Idempotency package), replayed when the client
+-- retries with the same key. Rows live for app.idempotency.ttl and are purged afterwards.
+
+create table idempotency_key (
+    -- SHA-256 of the caller, method, path and key
+    id varchar2(64 char) not null,
+    -- SHA-256 of the query string and body, a retry must send the same request
+    fingerprint varchar2(64 char) not null,
+    -- Null while the first request is still running
+    status_code number(10,0),
+    content_type varchar2(255 char),
+    body clob,
+    created_at timestamp(6) not null,
+    expires_at timestamp(6) not null,
+    constraint pk_idempotency_key primary key (id)
+);
+
+-- The purge
+create index ix_idempotency_key_expires on idempotency_key (expires_at);
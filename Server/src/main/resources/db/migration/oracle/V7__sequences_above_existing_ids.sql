@@ -0,0 +1,31 @@
+-- The entities took their ids from identity columns until they moved to pooled sequences. Databases created back
+-- then were baselined at V1 without its sequences, or got them from ddl-auto=update starting at 1, below ids already
+-- in use. Each sequence is (re)created so its first pooled block (ids start - 49 to start) begins above max(id), and
+-- identity columns are dropped: they are GENERATED ALWAYS and reject the ids Hibernate now supplies.
+declare
+    procedure restart(p_table varchar2, p_column varchar2, p_sequence varchar2) is
+        l_count number;
+        l_max number;
+    begin
+        select count(*) into l_count from user_tab_identity_cols
+            where table_name = upper(p_table) and column_name = upper(p_column);
+        if l_count > 0 then
+            execute immediate 'alter table ' || p_table || ' modify ' || p_column || ' drop identity';
+        end if;
+
+        select count(*) into l_count from user_sequences where sequence_name = upper(p_sequence);
+        if l_count > 0 then
+            execute immediate 'drop sequence ' || p_sequence;
+        end if;
+
+        execute immediate 'select coalesce(max(' || p_column || '), 0) from ' || p_table into l_max;
+        execute immediate 'create sequence ' || p_sequence || ' start with ' || (l_max + 50) || ' increment by 50';
+    end;
+begin
+    restart('department', 'department_id', 'department_seq');
+    restart('employee', 'employee_id', 'employee_seq');
+    restart('leave_request', 'id', 'leave_request_seq');
+    restart('roles', 'id', 'roles_seq');
+    restart('user_entity', 'id', 'user_entity_seq');
+end;
+/
@@ -1,9 +1,13 @@
 package com.SpringBoot.Project.ControllerTests;
 
 import com.SpringBoot.Project.Controllers.EmployeeController;
+import com.SpringBoot.Project.Dto.EmployeeImportReportDto;
+import com.SpringBoot.Project.Dto.EmployeeLookupDto;
 import com.SpringBoot.Project.Models.*;
 import com.SpringBoot.Project.Services.DepartmentService;
+import com.SpringBoot.Project.Services.EmployeeImportService;
 import com.SpringBoot.Project.Services.EmployeeService;
+import com.SpringBoot.Project.Services.ExportService;
 import com.SpringBoot.Project.Services.RoleService;
 import com.SpringBoot.Project.Services.UserEntityService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -15,13 +19,18 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -44,6 +53,12 @@ class EmployeeControllerTest {
     @MockBean
     private UserEntityService userEntityService;
 
+    @MockBean
+    private EmployeeImportService employeeImportService;
+
+    @MockBean
+    private ExportService exportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -253,4 +268,71 @@ class EmployeeControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.success").value(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser
+    void importEmployees_Csv() throws Exception {
+        EmployeeImportReportDto report = new EmployeeImportReportDto();
+        report.setRowsRead(2);
+        report.setImported(1);
+        report.setFailed(1);
+        report.getErrors().add(new EmployeeImportReportDto.RowError(2, "No department of id 9"));
+
+        when(employeeImportService.importEmployees(any(), eq(DataFormat.CSV)))
+                .thenReturn(Result.success(report, "Imported 1 of 2 rows."));
+
+        mockMvc.perform(post("/api/employees/import")
+                        .with(csrf())
+                        .contentType("text/csv")
+                        .content("name,email,departmentId,roleId,username\n"
+                                + "John Doe,john.doe@example.com,1,1,john.doe\n"
+                                + "Jane Doe,jane.doe@example.com,9,1,jane.doe\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.imported").value(1))
+                .andExpect(jsonPath("$.data.errors[0].row").value(2));
+    }
+
+    @Test
+    @WithMockUser
+    void exportEmployees_StreamsCsv() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("employeeId,name\n1,John Doe\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).exportEmployees(any(), eq(DataFormat.CSV));
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/employees/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(content().string("employeeId,name\n1,John Doe\n"));
+    }
+
+    @Test
+    @WithMockUser
+    void exportEmployees_UnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/employees/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void getEmployeesByIds_Success() throws Exception {
+        List<EmployeeLookupDto> lookups = List.of(new EmployeeLookupDto(1L, employee), new EmployeeLookupDto(42L, null));
+        when(employeeService.getEmployeesByIds(List.of(1L, 42L))).thenReturn(Result.success(lookups, "Found 1 of 2 employees."));
+
+        mockMvc.perform(post("/api/employees/batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 42]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].found").value(true))
+                .andExpect(jsonPath("$.data[0].employee.name").value("John Doe"))
+                .andExpect(jsonPath("$.data[1].id").value(42))
+                .andExpect(jsonPath("$.data[1].found").value(false));
+    }
+}
@@ -2,7 +2,9 @@ package com.SpringBoot.Project.ControllerTests;
 
 import com.SpringBoot.Project.Controllers.LeaveRequestController;
 import com.SpringBoot.Project.Models.*;
+import com.SpringBoot.Project.Services.ExportService;
 import com.SpringBoot.Project.Services.LeaveRequestService;
+import com.SpringBoot.Project.Streaming.LeaveEventHub;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -19,6 +22,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -34,6 +38,12 @@ class LeaveRequestControllerTest {
     @MockBean
     private LeaveRequestService leaveRequestService;
 
+    @MockBean
+    private ExportService exportService;
+
+    @MockBean
+    private LeaveEventHub leaveEventHub;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -211,4 +221,15 @@ class LeaveRequestControllerTest {
                 .andExpect(jsonPath("$.success").value(false))
                 .andExpect(jsonPath("$.message").value("Leave request not found"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void streamLeaveRequestChanges_SubscribesForTheDepartment() throws Exception {
+        when(leaveEventHub.subscribe(1L)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/leaves/stream").param("departmentId", "1")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(leaveEventHub).subscribe(1L);
+    }
+}
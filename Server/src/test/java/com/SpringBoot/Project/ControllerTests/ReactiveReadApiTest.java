@@ -0,0 +1,127 @@
+package com.SpringBoot.Project.ControllerTests;
+
+import com.SpringBoot.Project.Reactive.ReactiveReadServer;
+import com.SpringBoot.Project.Reactive.ReactiveRoutes;
+import com.SpringBoot.Project.Security.JwtGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveReadApiTest {
+
+    private static final List<String> SCHEMA = List.of(
+            "CREATE TABLE department (department_id BIGINT PRIMARY KEY, name VARCHAR(255), description VARCHAR(255))",
+            "CREATE TABLE roles (id INT PRIMARY KEY, name VARCHAR(255))",
+            "CREATE TABLE user_entity (id INT PRIMARY KEY, username VARCHAR(255), password VARCHAR(255))",
+            "CREATE TABLE employee (employee_id BIGINT PRIMARY KEY, name VARCHAR(255), email VARCHAR(255), "
+                    + "department_id BIGINT, roles_id INT, user_entity_id INT)",
+            "CREATE TABLE leave_request (id BIGINT PRIMARY KEY, employee_id BIGINT, start_date DATE, end_date DATE, "
+                    + "status VARCHAR(20), reason VARCHAR(255), manager_comment VARCHAR(255))",
+            "INSERT INTO department VALUES (1, 'IT', 'Information Technology')",
+            "INSERT INTO roles VALUES (1, 'ROLE_EMPLOYEE')",
+            "INSERT INTO user_entity VALUES (1, 'john.doe', 'x'), (2, 'jane.doe', 'x')",
+            "INSERT INTO employee VALUES (1, 'John Doe', 'john.doe@example.com', 1, 1, 1), "
+                    + "(2, 'Jane Doe', 'jane.doe@example.com', 1, 1, 2)",
+            "INSERT INTO leave_request VALUES (5, 1, DATE '2025-02-10', DATE '2025-02-15', 'APPROVED', 'Vacation', NULL)");
+
+    private final JwtGenerator jwtGenerator = new JwtGenerator();
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        // A fresh in-memory database per test
+        DatabaseClient databaseClient = DatabaseClient.create(ConnectionFactories.get(
+                "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1"));
+        for (String sql : SCHEMA) {
+            databaseClient.sql(sql).then().block();
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        webTestClient = WebTestClient
+                .bindToRouterFunction(ReactiveRoutes.routes(ReactiveReadServer.handler(databaseClient), jwtGenerator))
+                .handlerStrategies(ReactiveReadServer.handlerStrategies(objectMapper))
+                .build();
+    }
+
+    private String token(String role) {
+        return "Bearer " + jwtGenerator.generateToken(new UsernamePasswordAuthenticationToken(
+                "user", null, List.of(new SimpleGrantedAuthority(role))));
+    }
+
+    @Test
+    void getAllEmployees_StreamsNdjson() {
+        String body = webTestClient.get().uri("/api/employees")
+                .header("Authorization", token("ADMIN"))
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        String[] lines = body.trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"username\":\"john.doe\""));
+        assertTrue(lines[1].contains("\"departmentName\":\"IT\""));
+    }
+
+    @Test
+    void getAllLeaveRequests_ReturnsJsonArray() {
+        webTestClient.get().uri("/api/leaves")
+                .header("Authorization", token("MANAGER"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(5)
+                .jsonPath("$[0].employeeName").isEqualTo("John Doe")
+                .jsonPath("$[0].startDate").isEqualTo("2025-02-10")
+                .jsonPath("$[0].status").isEqualTo("APPROVED");
+    }
+
+    @Test
+    void getDepartmentById_Found_And_NotFound() {
+        webTestClient.get().uri("/api/departments/1")
+                .header("Authorization", token("MANAGER"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("IT");
+
+        webTestClient.get().uri("/api/departments/99")
+                .header("Authorization", token("MANAGER"))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void getAllEmployees_RequiresAdminToken() {
+        webTestClient.get().uri("/api/employees")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.get().uri("/api/employees")
+                .header("Authorization", "Bearer not-a-token")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.get().uri("/api/employees")
+                .header("Authorization", token("MANAGER"))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+}
@@ -0,0 +1,121 @@
+package com.SpringBoot.Project.ControllerTests;
+
+import com.SpringBoot.Project.Controllers.ReportController;
+import com.SpringBoot.Project.Dto.LeaveDaysByDepartmentRow;
+import com.SpringBoot.Project.Dto.RebuildProgress;
+import com.SpringBoot.Project.Dto.RejectionRateRow;
+import com.SpringBoot.Project.Models.Result;
+import com.SpringBoot.Project.Services.LeaveAnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReportController.class)
+class ReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LeaveAnalyticsService leaveAnalyticsService;
+
+    @Test
+    @WithMockUser
+    void getApprovedDaysByDepartment_Success() throws Exception {
+        LeaveDaysByDepartmentRow row = new LeaveDaysByDepartmentRow(1L, "IT", YearMonth.of(2025, 7), 3, 17);
+        when(leaveAnalyticsService.getApprovedDaysByDepartment(YearMonth.of(2025, 1), YearMonth.of(2025, 12), 1L))
+                .thenReturn(Result.success(List.of(row), "Report retrieved"));
+
+        mockMvc.perform(get("/api/reports/leave-days")
+                        .param("from", "2025-01")
+                        .param("to", "2025-12")
+                        .param("departmentId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].month").value("2025-07"))
+                .andExpect(jsonPath("$.data[0].approvedDays").value(17));
+    }
+
+    @Test
+    @WithMockUser
+    void getApprovedDaysByDepartment_InvalidRange() throws Exception {
+        when(leaveAnalyticsService.getApprovedDaysByDepartment(any(), any(), any()))
+                .thenReturn(Result.failure("Invalid month range", List.of("End month cannot be before start month")));
+
+        mockMvc.perform(get("/api/reports/leave-days")
+                        .param("from", "2025-12")
+                        .param("to", "2025-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @WithMockUser
+    void getRejectionRateByManager_DefaultsToLastTwelveMonths() throws Exception {
+        YearMonth now = YearMonth.now();
+        when(leaveAnalyticsService.getRejectionRateByManager(now.minusMonths(11), now))
+                .thenReturn(Result.success(List.of(new RejectionRateRow("jane.manager", 6, 2, 0.25)), "Report retrieved"));
+
+        mockMvc.perform(get("/api/reports/rejection-rate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].manager").value("jane.manager"))
+                .andExpect(jsonPath("$.data[0].rejectionRate").value(0.25));
+    }
+
+    @Test
+    @WithMockUser
+    void startRebuild_AlreadyRunning() throws Exception {
+        when(leaveAnalyticsService.startRebuild())
+                .thenReturn(Result.failure("Rebuild already running", List.of("A rebuild is already running")));
+
+        mockMvc.perform(post("/api/reports/rebuild").with(csrf()))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithMockUser
+    void startRebuild_Accepted() throws Exception {
+        when(leaveAnalyticsService.startRebuild()).thenReturn(Result.success(
+                new RebuildProgress("leave-stats", RebuildProgress.State.RUNNING, 0, 0, 0, 1, null), "Started"));
+
+        mockMvc.perform(post("/api/reports/rebuild").with(csrf()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.state").value("RUNNING"));
+    }
+
+    @Test
+    @WithMockUser
+    void getRebuildProgress_Success() throws Exception {
+        when(leaveAnalyticsService.getRebuildProgress()).thenReturn(Result.success(
+                new RebuildProgress("leave-stats", RebuildProgress.State.RUNNING, 16, 5, 120000, 800, null), "Progress"));
+
+        mockMvc.perform(get("/api/reports/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.partitionsCompleted").value(5))
+                .andExpect(jsonPath("$.data.rowsRead").value(120000));
+    }
+
+    @Test
+    @WithMockUser
+    void cancelRebuild_NothingRunning() throws Exception {
+        when(leaveAnalyticsService.cancelRebuild())
+                .thenReturn(Result.failure("No rebuild found", List.of("No leave statistics rebuild is running")));
+
+        mockMvc.perform(delete("/api/reports/rebuild").with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,88 @@
+package com.SpringBoot.Project.ControllerTests;
+
+import com.SpringBoot.Project.Controllers.WebhookController;
+import com.SpringBoot.Project.Dto.WebhookEndpointStatus;
+import com.SpringBoot.Project.Models.Result;
+import com.SpringBoot.Project.Models.WebhookSubscription;
+import com.SpringBoot.Project.Services.WebhookService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(WebhookController.class)
+class WebhookControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private WebhookService webhookService;
+
+    @Test
+    @WithMockUser
+    void subscribe_Success() throws Exception {
+        WebhookSubscription saved = new WebhookSubscription("https://hooks.example.com/leave", "s3cret", "LEAVE_SUBMITTED");
+        when(webhookService.subscribe(any())).thenReturn(Result.success(saved, "Webhook subscription created."));
+
+        mockMvc.perform(post("/api/webhooks")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"url\":\"https://hooks.example.com/leave\",\"secret\":\"s3cret\",\"eventTypes\":\"LEAVE_SUBMITTED\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.url").value("https://hooks.example.com/leave"))
+                // The secret is write only
+                .andExpect(jsonPath("$.data.secret").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser
+    void subscribe_InvalidUrl() throws Exception {
+        when(webhookService.subscribe(any()))
+                .thenReturn(Result.failure("Invalid webhook subscription", List.of("URL must be an absolute http or https URL")));
+
+        mockMvc.perform(post("/api/webhooks")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"url\":\"ftp://hooks.example.com\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @WithMockUser
+    void getStatus_Success() throws Exception {
+        when(webhookService.getStatus(3L)).thenReturn(Result.success(
+                new WebhookEndpointStatus(3L, "https://hooks.example.com/leave", "OPEN", 12, 0, 40, 2, 0),
+                "Webhook delivery status retrieved."));
+
+        mockMvc.perform(get("/api/webhooks/3/status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.circuit").value("OPEN"))
+                .andExpect(jsonPath("$.data.pending").value(12));
+    }
+
+    @Test
+    @WithMockUser
+    void unsubscribe_NotFound() throws Exception {
+        when(webhookService.unsubscribe(9L))
+                .thenReturn(Result.failure("Webhook subscription not found.", List.of("No webhook subscription found with id: 9")));
+
+        mockMvc.perform(delete("/api/webhooks/9").with(csrf()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+}
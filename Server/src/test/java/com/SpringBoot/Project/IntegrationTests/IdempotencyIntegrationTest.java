@@ -0,0 +1,201 @@
+package com.SpringBoot.Project.IntegrationTests;
+
+import com.SpringBoot.Project.Idempotency.IdempotencyFilter;
+import com.SpringBoot.Project.Idempotency.IdempotencyStore;
+import com.SpringBoot.Project.Models.*;
+import com.SpringBoot.Project.Repositories.DepartmentInterface;
+import com.SpringBoot.Project.Repositories.EmployeeInterface;
+import com.SpringBoot.Project.Repositories.LeaveRequestInterface;
+import com.SpringBoot.Project.Repositories.RoleInterface;
+import com.SpringBoot.Project.Repositories.UserInterface;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+// POST /api/leaves/submit with an Idempotency-Key through the whole stack on an embedded H2 database
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:idempotency;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "app.reactive.enabled=false",
+        "app.outbox.sink=memory",
+        "app.outbox.poll-interval=3600000",
+        "app.idempotency.max-body-size=2KB"
+})
+@AutoConfigureMockMvc
+class IdempotencyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DepartmentInterface departmentInterface;
+
+    @Autowired
+    private EmployeeInterface employeeInterface;
+
+    @Autowired
+    private LeaveRequestInterface leaveRequestInterface;
+
+    @Autowired
+    private RoleInterface roleInterface;
+
+    @Autowired
+    private UserInterface userInterface;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        Department department = departmentInterface.save(new Department("Idempotency " + System.nanoTime(), null));
+        Roles role = roleInterface.findByName("EMPLOYEE").orElseGet(() -> roleInterface.save(new Roles("EMPLOYEE")));
+        UserEntity user = new UserEntity();
+        user.setUsername("alice" + System.nanoTime());
+        user.setPassword("{noop}password");
+        user.setRoles(List.of(role));
+        user = userInterface.save(user);
+        employee = employeeInterface.save(new Employee("alice", user.getUsername() + "@example.com", department, role, user));
+    }
+
+    private MockHttpServletResponse submit(String username, String key, int days) throws Exception {
+        return submit(username, key, days, "Vacation");
+    }
+
+    private MockHttpServletResponse submit(String username, String key, int days, String reason) throws Exception {
+        String body = "{\"startDate\":\"" + LocalDate.now().plusDays(days) + "\",\"endDate\":\""
+                + LocalDate.now().plusDays(days + 2) + "\",\"reason\":\"" + reason + "\",\"status\":\"PENDING\"}";
+        var request = post("/api/leaves/submit")
+                .with(user(username).authorities(new SimpleGrantedAuthority("EMPLOYEE")))
+                .param("employeeId", String.valueOf(employee.getEmployeeId()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+        if (key != null) {
+            request.header(IdempotencyFilter.HEADER, key);
+        }
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private long leaveRequests() {
+        return leaveRequestInterface.findAll().stream()
+                .filter(request -> request.getEmployee().getEmployeeId() == employee.getEmployeeId())
+                .count();
+    }
+
+    @Test
+    void retry_GetsTheFirstResponseWithoutSubmittingAgain() throws Exception {
+        MockHttpServletResponse first = submit("alice", "retry-1", 10);
+        MockHttpServletResponse retry = submit("alice", "retry-1", 10);
+
+        assertEquals(200, first.getStatus());
+        assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(200, retry.getStatus());
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals(1, leaveRequests());
+    }
+
+    @Test
+    void concurrentDuplicates_RunOnce() throws Exception {
+        int clients = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return submit("alice", "burst-1", 20);
+                }));
+            }
+            start.countDown();
+
+            String body = null;
+            for (Future<MockHttpServletResponse> response : responses) {
+                MockHttpServletResponse result = response.get(30, TimeUnit.SECONDS);
+                assertEquals(200, result.getStatus(), result.getContentAsString());
+                if (body == null) {
+                    body = result.getContentAsString();
+                }
+                assertEquals(body, result.getContentAsString());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, leaveRequests());
+    }
+
+    @Test
+    void keyReusedForADifferentRequest_IsRejected() throws Exception {
+        assertEquals(200, submit("alice", "reuse-1", 30).getStatus());
+
+        MockHttpServletResponse reused = submit("alice", "reuse-1", 40);
+
+        assertEquals(422, reused.getStatus());
+        assertEquals(1, leaveRequests());
+    }
+
+    @Test
+    void keys_AreScopedToTheCaller() throws Exception {
+        assertEquals(200, submit("alice", "shared-1", 50).getStatus());
+        MockHttpServletResponse other = submit("bob", "shared-1", 50);
+
+        assertEquals(200, other.getStatus());
+        assertNull(other.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(2, leaveRequests());
+    }
+
+    @Test
+    void requestsWithoutAKey_AreNotDeduplicated() throws Exception {
+        submit("alice", null, 60);
+        submit("alice", null, 60);
+
+        assertEquals(2, leaveRequests());
+    }
+
+    @Test
+    void keyHeldByAnotherInstance_IsAnsweredWithConflictRightAway() throws Exception {
+        // Claimed the way another instance would, straight in the shared table
+        String storageKey = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest("alice\nPOST /api/leaves/submit\nremote-1".getBytes(StandardCharsets.UTF_8)));
+        assertNull(idempotencyStore.claim(storageKey, "elsewhere"));
+
+        long start = System.nanoTime();
+        MockHttpServletResponse response = submit("alice", "remote-1", 70);
+
+        assertEquals(409, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+        assertEquals(0, leaveRequests());
+    }
+
+    @Test
+    void bodyOverTheLimit_IsRejectedBeforeItRuns() throws Exception {
+        MockHttpServletResponse response = submit("alice", "large-1", 80, "x".repeat(4096));
+
+        assertEquals(413, response.getStatus());
+        assertEquals(0, leaveRequests());
+    }
+}
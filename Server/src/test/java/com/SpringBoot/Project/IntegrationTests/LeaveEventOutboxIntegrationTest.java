@@ -0,0 +1,254 @@
+package com.SpringBoot.Project.IntegrationTests;
+
+import com.SpringBoot.Project.Models.*;
+import com.SpringBoot.Project.Outbox.FileOutboxSink;
+import com.SpringBoot.Project.Outbox.InMemoryOutboxSink;
+import com.SpringBoot.Project.Outbox.LeaveEventOutbox;
+import com.SpringBoot.Project.Outbox.OutboxRelay;
+import com.SpringBoot.Project.Outbox.OutboxSink;
+import com.SpringBoot.Project.Repositories.DepartmentInterface;
+import com.SpringBoot.Project.Repositories.EmployeeInterface;
+import com.SpringBoot.Project.Repositories.LeaveRequestInterface;
+import com.SpringBoot.Project.Repositories.OutboxEventInterface;
+import com.SpringBoot.Project.Repositories.RoleInterface;
+import com.SpringBoot.Project.Repositories.UserInterface;
+import com.SpringBoot.Project.Services.LeaveRequestService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Status changes through LeaveRequestService on an embedded H2 database, relayed by hand: the scheduled poll is
+// pushed out of the way and every test calls OutboxRelay.relayBatch() itself.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "app.reactive.enabled=false",
+        "app.outbox.sink=memory",
+        "app.outbox.poll-interval=3600000",
+        "app.outbox.max-attempts=3"
+})
+class LeaveEventOutboxIntegrationTest {
+
+    @Autowired
+    private LeaveRequestService leaveRequestService;
+
+    @Autowired
+    private LeaveEventOutbox leaveEventOutbox;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxSink inMemoryOutboxSink;
+
+    @Autowired
+    private FlakySink flakySink;
+
+    @Autowired
+    private OutboxEventInterface outboxEventInterface;
+
+    @Autowired
+    private DepartmentInterface departmentInterface;
+
+    @Autowired
+    private EmployeeInterface employeeInterface;
+
+    @Autowired
+    private LeaveRequestInterface leaveRequestInterface;
+
+    @Autowired
+    private RoleInterface roleInterface;
+
+    @Autowired
+    private UserInterface userInterface;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Employee alice;
+    private Employee bob;
+
+    @TestConfiguration
+    static class SinkConfig {
+        @Bean
+        FlakySink flakySink() {
+            return new FlakySink();
+        }
+    }
+
+    // Fails every call while failing is set
+    static class FlakySink implements OutboxSink {
+        volatile boolean failing;
+
+        @Override
+        public String name() {
+            return "flaky";
+        }
+
+        @Override
+        public void publish(List<OutboxEvent> events) {
+            if (failing) {
+                throw new IllegalStateException("Payroll is down");
+            }
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        outboxEventInterface.deleteAll();
+        inMemoryOutboxSink.clear();
+        flakySink.failing = false;
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("jane.manager", null, List.of()));
+
+        Department department = departmentInterface.save(new Department("Outbox " + System.nanoTime(), null));
+        alice = employee("alice", department);
+        bob = employee("bob", department);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Employee employee(String name, Department department) {
+        Roles role = roleInterface.findByName("EMPLOYEE").orElseGet(() -> roleInterface.save(new Roles("EMPLOYEE")));
+        UserEntity user = new UserEntity();
+        user.setUsername(name + System.nanoTime());
+        user.setPassword("{noop}password");
+        user.setRoles(List.of(role));
+        user = userInterface.save(user);
+        return employeeInterface.save(new Employee(name, user.getUsername() + "@example.com", department, role, user));
+    }
+
+    private LeaveRequest pending(Employee employee, int days) {
+        return leaveRequestInterface.save(new LeaveRequest(employee, LocalDate.now().plusDays(days),
+                LocalDate.now().plusDays(days + 1), Status.PENDING, "Vacation", null));
+    }
+
+    private void decide(LeaveRequest request, Status status) {
+        LeaveRequest decision = new LeaveRequest();
+        decision.setStatus(status);
+        assertTrue(leaveRequestService.updateLeaveRequest(request.getId(), decision).isSuccess());
+    }
+
+    @Test
+    void statusChange_IsWrittenAndDeliveredInOrderPerEmployee() throws Exception {
+        LeaveRequest aliceFirst = pending(alice, 10);
+        LeaveRequest bobFirst = pending(bob, 10);
+        LeaveRequest aliceSecond = pending(alice, 20);
+        decide(aliceFirst, Status.APPROVED);
+        decide(bobFirst, Status.REJECTED);
+        decide(aliceSecond, Status.APPROVED);
+        decide(aliceFirst, Status.REJECTED);
+        // Unchanged status, no event
+        decide(bobFirst, Status.REJECTED);
+
+        assertEquals(4, outboxEventInterface.countUnpublished());
+        OutboxRelay.BatchResult result = outboxRelay.relayBatch();
+        assertEquals(new OutboxRelay.BatchResult(4, 4, 0), result);
+        assertEquals(0, outboxEventInterface.countUnpublished());
+
+        List<OutboxEvent> delivered = inMemoryOutboxSink.events();
+        List<OutboxEvent> aliceEvents = delivered.stream().filter(e -> e.getEmployeeId() == alice.getEmployeeId()).toList();
+        assertEquals(3, aliceEvents.size());
+        assertTrue(aliceEvents.get(0).getId() < aliceEvents.get(1).getId());
+        assertTrue(aliceEvents.get(1).getId() < aliceEvents.get(2).getId());
+
+        JsonNode last = objectMapper.readTree(aliceEvents.get(2).getPayload());
+        assertEquals(LeaveEventOutbox.STATUS_CHANGED, aliceEvents.get(2).getEventType());
+        assertEquals(aliceFirst.getId(), last.get("leaveRequestId").asLong());
+        assertEquals("APPROVED", last.get("previousStatus").asText());
+        assertEquals("REJECTED", last.get("status").asText());
+        assertEquals("jane.manager", last.get("decidedBy").asText());
+    }
+
+    @Test
+    void statusChange_RolledBackLeavesNoEvent() {
+        LeaveRequest request = pending(alice, 10);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            decide(request, Status.APPROVED);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, outboxEventInterface.countUnpublished());
+        assertThrows(IllegalTransactionStateException.class, () -> leaveEventOutbox.statusChanged(request, Status.PENDING));
+    }
+
+    @Test
+    void failedDelivery_IsRetriedUntilASinkAcceptsIt() {
+        decide(pending(alice, 10), Status.APPROVED);
+        decide(pending(bob, 10), Status.APPROVED);
+
+        flakySink.failing = true;
+        assertEquals(new OutboxRelay.BatchResult(2, 0, 2), outboxRelay.relayBatch());
+        assertEquals(2, outboxEventInterface.countUnpublished());
+        assertTrue(outboxEventInterface.findAll().stream().allMatch(e -> e.getAttempts() == 1
+                && e.getLastError().contains("Payroll is down")));
+
+        flakySink.failing = false;
+        assertEquals(new OutboxRelay.BatchResult(2, 2, 0), outboxRelay.relayBatch());
+        assertEquals(0, outboxEventInterface.countUnpublished());
+        // Depending on sink order the memory sink may also have taken them on the failed attempt, at least once
+        assertEquals(2, inMemoryOutboxSink.events().stream().map(OutboxEvent::getId).distinct().count());
+    }
+
+    @Test
+    void failedDelivery_IsParkedAfterMaxAttempts() {
+        decide(pending(alice, 10), Status.APPROVED);
+
+        flakySink.failing = true;
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertEquals(1, outboxRelay.relayBatch().failed());
+        }
+
+        assertEquals(new OutboxRelay.BatchResult(0, 0, 0), outboxRelay.relayBatch());
+        OutboxEvent parked = outboxEventInterface.findAll().get(0);
+        assertNull(parked.getPublishedAt());
+        assertEquals(3, parked.getAttempts());
+    }
+
+    @Test
+    void fileSink_AppendsOneJsonLinePerEvent(@TempDir Path dir) throws Exception {
+        decide(pending(alice, 10), Status.APPROVED);
+        decide(pending(bob, 10), Status.REJECTED);
+        List<OutboxEvent> events = outboxEventInterface.findAll();
+
+        Path file = dir.resolve("events").resolve("leave-events.ndjson");
+        FileOutboxSink sink = new FileOutboxSink(file, objectMapper);
+        sink.publish(events.subList(0, 1));
+        sink.publish(events.subList(1, 2));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertEquals(events.get(1).getId(), second.get("id").asLong());
+        assertEquals(LeaveEventOutbox.STATUS_CHANGED, second.get("type").asText());
+        assertEquals("REJECTED", second.get("payload").get("status").asText());
+    }
+}
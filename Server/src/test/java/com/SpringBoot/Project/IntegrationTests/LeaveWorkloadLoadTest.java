@@ -0,0 +1,410 @@
+package com.SpringBoot.Project.IntegrationTests;
+
+import com.SpringBoot.Project.Database.DataGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Load test: boots the application on a real port against an in-memory H2 database in Oracle mode, seeds realistic
+// volumes and drives a mixed workload (login, list, submit, approve) from concurrent HTTP clients. Asserts p50/p99
+// latency and throughput budgets and writes HDR histogram reports to target/load-test. The data comes from
+// DataGenerator with a fixed seed.
+//
+// Excluded from the normal build, run it with:  mvn -Pload-test test
+// Every setting below can be overridden with -D, e.g. -Dload.clients=64 -Dload.rate=400 -Dload.duration=120.
+// Run with -Pjava21 -Dspring.profiles.active=virtual to compare virtual against platform request threads,
+// scripts/compare-request-threads.sh does so at 1k and 10k clients. The report includes the JVM's heap, thread and
+// resident memory peaks. Clients run in the same JVM on platform threads, one each, so the thread peak counts them
+// too and the report subtracts them.
+//
+// The schema comes from the Flyway migrations. Hibernate validation is off because H2's Oracle mode turns DATE
+// columns into TIMESTAMP, which validate rejects even though reading and writing them works.
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:load;MODE=Oracle;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "management.metrics.distribution.percentiles.hikaricp.connections.acquire=0.5,0.99",
+        "app.reactive.port=0"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LeaveWorkloadLoadTest {
+
+    private static final Logger logger = LogManager.getLogger(LeaveWorkloadLoadTest.class);
+
+    private static final String PASSWORD = "password";
+    private static final Path REPORT_DIR = Path.of("target", "load-test");
+
+    private static final String USERNAME_PREFIX = "load";
+    private static final int EMPLOYEES = Integer.getInteger("load.employees", 50_000);
+    // About 10 requests per employee (roughly 500k in total) over the three generated years
+    private static final double LEAVES_PER_YEAR = Double.parseDouble(System.getProperty("load.leaves-per-year", "3.2"));
+    private static final int DEPARTMENTS = 50;
+    private static final int CLIENTS = Integer.getInteger("load.clients", 32);
+    // Total requests per second across all clients. 0 runs closed loop, each client sends as fast as it gets answers.
+    private static final int RATE = Integer.getInteger("load.rate", 0);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup", 15));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration", 60));
+    private static final double MIN_THROUGHPUT = Double.parseDouble(System.getProperty("load.budget.throughput", "100"));
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    // Share of the mix and p50/p99 budgets in milliseconds, each overridable with -Dload.budget.<name>.p50/.p99
+    enum Operation {
+        LOGIN(5, 400, 1500),
+        LIST_DEPARTMENTS(15, 25, 250),
+        LOOKUP_EMPLOYEES(35, 50, 400),
+        SUBMIT(30, 40, 400),
+        APPROVE(15, 40, 400);
+
+        final int weight;
+        final long p50Budget;
+        final long p99Budget;
+
+        Operation(int weight, long p50Budget, long p99Budget) {
+            String name = name().toLowerCase(Locale.ROOT).replace('_', '-');
+            this.weight = weight;
+            this.p50Budget = Long.getLong("load.budget." + name + ".p50", p50Budget);
+            this.p99Budget = Long.getLong("load.budget." + name + ".p99", p99Budget);
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private String adminToken;
+    private long[] employeeIds;
+    private long[] pendingIds;
+
+    @BeforeAll
+    void seed() throws Exception {
+        DataGenerator.Summary summary = new DataGenerator(dataSource).generate(new DataGenerator.Settings(42,
+                DEPARTMENTS, EMPLOYEES, 3, LEAVES_PER_YEAR, USERNAME_PREFIX, passwordEncoder.encode(PASSWORD), 1000));
+
+        employeeIds = jdbcTemplate.queryForList("select employee_id from employee", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        // The requests the APPROVE operation works through
+        pendingIds = jdbcTemplate.queryForList("select id from leave_request where status = 'PENDING'", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+
+        adminToken = login(USERNAME_PREFIX + ".admin");
+        logger.info("Seeded {} employees and {} leave requests ({} pending) in {} s", summary.employees(),
+                summary.leaveRequests(), pendingIds.length, TimeUnit.MILLISECONDS.toSeconds(summary.elapsedMillis()));
+    }
+
+    @Test
+    void mixedWorkloadMeetsLatencyAndThroughputBudgets() throws Exception {
+        Operation[] mix = weightedMix();
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new Histogram(TimeUnit.MINUTES.toMicros(1), 3));
+        }
+        AtomicLongArray errors = new AtomicLongArray(Operation.values().length);
+
+        long warmupEnd = System.nanoTime() + WARMUP.toNanos();
+        long end = warmupEnd + DURATION.toNanos();
+        // Per client interval between intended request starts when running at a fixed rate
+        long interval = RATE > 0 ? TimeUnit.SECONDS.toNanos(1) * CLIENTS / RATE : 0;
+
+        MemoryPeaks memory = new MemoryPeaks();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(memory, 0, 1, TimeUnit.SECONDS);
+
+        AtomicInteger clientNumber = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS,
+                runnable -> new Thread(runnable, "load-client-" + clientNumber.incrementAndGet()));
+        List<Future<Map<Operation, Histogram>>> results = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            long seed = c;
+            results.add(clients.submit(() -> runClient(new Random(seed), mix, interval, warmupEnd, end, errors)));
+        }
+        for (Future<Map<Operation, Histogram>> result : results) {
+            result.get().forEach((operation, histogram) -> histograms.get(operation).add(histogram));
+        }
+        clients.shutdown();
+        sampler.shutdown();
+        sampler.awaitTermination(5, TimeUnit.SECONDS);
+
+        long total = histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+        long totalErrors = 0;
+        for (int i = 0; i < errors.length(); i++) {
+            totalErrors += errors.get(i);
+        }
+        double throughput = total / (double) DURATION.toSeconds();
+
+        writeReport(histograms, errors, throughput, memory);
+
+        List<Executable> checks = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            long p50 = histogram.getValueAtPercentile(50) / 1000;
+            long p99 = histogram.getValueAtPercentile(99) / 1000;
+            checks.add(() -> assertTrue(histogram.getTotalCount() > 0, operation + " was never executed"));
+            checks.add(() -> assertTrue(p50 <= operation.p50Budget,
+                    operation + " p50 " + p50 + " ms is over its budget of " + operation.p50Budget + " ms"));
+            checks.add(() -> assertTrue(p99 <= operation.p99Budget,
+                    operation + " p99 " + p99 + " ms is over its budget of " + operation.p99Budget + " ms"));
+        }
+        long failed = totalErrors;
+        checks.add(() -> assertTrue(throughput >= MIN_THROUGHPUT,
+                String.format("Throughput %.1f req/s is below the budget of %.1f req/s", throughput, MIN_THROUGHPUT)));
+        checks.add(() -> assertTrue(failed <= (total + failed) * MAX_ERROR_RATE,
+                failed + " of " + (total + failed) + " requests failed"));
+        assertAll(checks);
+    }
+
+    private Map<Operation, Histogram> runClient(Random random, Operation[] mix, long interval, long warmupEnd, long end,
+                                                AtomicLongArray errors) {
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new Histogram(TimeUnit.MINUTES.toMicros(1), 3));
+        }
+
+        long intendedStart = System.nanoTime() + (interval > 0 ? random.nextLong(interval) : 0);
+        while (intendedStart < end) {
+            if (interval > 0) {
+                LockSupport.parkNanos(intendedStart - System.nanoTime());
+            }
+            long start = interval > 0 ? intendedStart : System.nanoTime();
+            Operation operation = mix[random.nextInt(mix.length)];
+
+            boolean ok;
+            try {
+                ok = execute(operation, random);
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            long now = System.nanoTime();
+            // At a fixed rate latency counts from when the request should have been sent, so a stalled server
+            // shows up in the histogram instead of just slowing the clients down (coordinated omission)
+            if (start >= warmupEnd) {
+                if (ok) {
+                    histograms.get(operation).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(now - start),
+                            histograms.get(operation).getHighestTrackableValue()));
+                } else {
+                    errors.incrementAndGet(operation.ordinal());
+                }
+            }
+            intendedStart = interval > 0 ? intendedStart + interval : now;
+        }
+        return histograms;
+    }
+
+    private boolean execute(Operation operation, Random random) throws IOException, InterruptedException {
+        switch (operation) {
+            case LOGIN -> {
+                HttpResponse<String> response = send("POST", "/api/auth/login", null,
+                        loginBody(USERNAME_PREFIX + ".user" + (1 + random.nextInt(EMPLOYEES))));
+                return response.statusCode() == 200;
+            }
+            case LIST_DEPARTMENTS -> {
+                return send("GET", "/api/departments", adminToken, null).statusCode() == 200;
+            }
+            case LOOKUP_EMPLOYEES -> {
+                StringJoiner ids = new StringJoiner(",", "[", "]");
+                for (int i = 0; i < 50; i++) {
+                    ids.add(String.valueOf(employeeIds[random.nextInt(employeeIds.length)]));
+                }
+                return send("POST", "/api/employees/batch", adminToken, ids.toString()).statusCode() == 200;
+            }
+            case SUBMIT -> {
+                LocalDate startDate = LocalDate.now().plusDays(1 + random.nextInt(365));
+                String body = "{\"startDate\":\"" + startDate + "\",\"endDate\":\"" + startDate.plusDays(random.nextInt(5))
+                        + "\",\"status\":\"PENDING\",\"reason\":\"Load test\"}";
+                int status = send("POST", "/api/leaves/submit?employeeId=" + employeeIds[random.nextInt(employeeIds.length)],
+                        adminToken, body).statusCode();
+                // 400 is an overlap with an approved request, a normal business outcome
+                return status == 200 || status == 400;
+            }
+            case APPROVE -> {
+                long id = pendingIds[random.nextInt(pendingIds.length)];
+                String body = "{\"status\":\"" + (random.nextInt(10) < 8 ? "APPROVED" : "REJECTED") + "\"}";
+                return send("PUT", "/api/leaves/update/" + id, adminToken, body).statusCode() == 200;
+            }
+            default -> throw new IllegalStateException(operation.name());
+        }
+    }
+
+    private static Operation[] weightedMix() {
+        List<Operation> mix = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            for (int i = 0; i < operation.weight; i++) {
+                mix.add(operation);
+            }
+        }
+        return mix.toArray(Operation[]::new);
+    }
+
+    private String loginBody(String username) {
+        return "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}";
+    }
+
+    private String login(String username) throws Exception {
+        HttpResponse<String> response = send("POST", "/api/auth/login", null, loginBody(username));
+        assertEquals(200, response.statusCode());
+        return objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    private HttpResponse<String> send(String method, String path, String token, String json)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .method(method, json == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private void writeReport(Map<Operation, Histogram> histograms, AtomicLongArray errors, double throughput,
+                             MemoryPeaks memory) throws IOException {
+        Files.createDirectories(REPORT_DIR);
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%d clients, %s, %s request threads, %d s measured after %d s warmup%n",
+                CLIENTS, RATE > 0 ? RATE + " req/s target" : "closed loop", virtualThreads ? "virtual" : "platform",
+                DURATION.toSeconds(), WARMUP.toSeconds()));
+        summary.append(String.format("%-18s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            summary.append(String.format("%-18s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", operation,
+                    histogram.getTotalCount(), errors.get(operation.ordinal()),
+                    histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0));
+
+            // Full percentile distribution in HdrHistogram's .hgrm format, in milliseconds
+            try (PrintStream out = new PrintStream(Files.newOutputStream(
+                    REPORT_DIR.resolve(operation.name().toLowerCase(Locale.ROOT) + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        summary.append(String.format("throughput %.1f req/s%n", throughput));
+        summary.append(memory.report());
+        summary.append(poolReport());
+
+        Path summaryFile = REPORT_DIR.resolve("summary.txt");
+        Files.writeString(summaryFile, summary);
+        logger.info("Load test report written to {}", summaryFile.toAbsolutePath());
+    }
+
+    // Peaks over the run, sampled once a second. Only the sampler thread writes the fields, they are read after it
+    // has been shut down. Virtual threads are not counted by ThreadMXBean, their stacks live on the heap.
+    private static final class MemoryPeaks implements Runnable {
+
+        private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        private long heapUsed;
+        private long heapCommitted;
+        private int liveThreads;
+
+        @Override
+        public void run() {
+            MemoryUsage heap = memoryBean.getHeapMemoryUsage();
+            heapUsed = Math.max(heapUsed, heap.getUsed());
+            heapCommitted = Math.max(heapCommitted, heap.getCommitted());
+            liveThreads = Math.max(liveThreads, threadBean.getThreadCount());
+        }
+
+        String report() {
+            return String.format("memory: heap used peak %d MB, heap committed peak %d MB, live threads peak %d "
+                            + "(%d without the load clients), resident peak %s%n",
+                    heapUsed >> 20, heapCommitted >> 20, liveThreads, liveThreads - CLIENTS, residentPeak());
+        }
+
+        // VmHWM, the high water mark of the resident set, Linux only
+        private static String residentPeak() {
+            try {
+                return Files.readAllLines(Path.of("/proc/self/status")).stream()
+                        .filter(line -> line.startsWith("VmHWM:"))
+                        .map(line -> Long.parseLong(line.replaceAll("\\D", "")) / 1024 + " MB")
+                        .findFirst().orElse("unknown");
+            } catch (IOException | RuntimeException e) {
+                return "unknown";
+            }
+        }
+    }
+
+    // How long requests waited for a pooled connection, to tell pool saturation apart from slow queries
+    private String poolReport() {
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        if (acquire == null) {
+            return "";
+        }
+        StringBuilder report = new StringBuilder(String.format("connection acquire: %d, mean %.2f ms, max %.2f ms",
+                acquire.count(), acquire.mean(TimeUnit.MILLISECONDS), acquire.max(TimeUnit.MILLISECONDS)));
+        for (ValueAtPercentile percentile : acquire.takeSnapshot().percentileValues()) {
+            report.append(String.format(", p%.0f %.2f ms", percentile.percentile() * 100, percentile.value(TimeUnit.MILLISECONDS)));
+        }
+        Counter timeouts = meterRegistry.find("hikaricp.connections.timeout").counter();
+        return report.append(String.format(", timeouts %.0f%n", timeouts == null ? 0 : timeouts.count())).toString();
+    }
+}
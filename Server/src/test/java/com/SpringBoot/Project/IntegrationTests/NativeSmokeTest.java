@@ -0,0 +1,111 @@
+package com.SpringBoot.Project.IntegrationTests;
+
+import com.SpringBoot.Project.Models.Roles;
+import com.SpringBoot.Project.Models.UserEntity;
+import com.SpringBoot.Project.Repositories.RoleInterface;
+import com.SpringBoot.Project.Repositories.UserInterface;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Boots the whole application over real HTTP against an embedded H2 database: login plus one endpoint per controller.
+// The schema comes from the h2 Flyway migrations and is validated against the entities on startup.
+// Runs on the JVM with the other tests, and inside the native image with: mvn -PnativeTest test
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:smoke;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "app.reactive.port=0"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class NativeSmokeTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RoleInterface roleInterface;
+
+    @Autowired
+    private UserInterface userInterface;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeAll
+    void seed() {
+        Roles adminRole = roleInterface.save(new Roles("ADMIN"));
+        roleInterface.save(new Roles("EMPLOYEE"));
+
+        UserEntity admin = new UserEntity();
+        admin.setUsername("admin");
+        admin.setPassword(passwordEncoder.encode("password"));
+        admin.setRoles(List.of(adminRole));
+        userInterface.save(admin);
+    }
+
+    private HttpResponse<String> send(String method, String path, String token, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .method(method, json == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String login(String username, String password) throws Exception {
+        HttpResponse<String> response = send("POST", "/api/auth/login", null,
+                "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}");
+        assertEquals(200, response.statusCode());
+        return objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    @Test
+    void loginAndOneEndpointPerController() throws Exception {
+        // AuthController
+        assertEquals(201, send("POST", "/api/auth/register", null,
+                "{\"username\":\"john.doe\",\"password\":\"password\"}").statusCode());
+        assertFalse(login("john.doe", "password").isBlank());
+        String token = login("admin", "password");
+
+        // DepartmentController
+        HttpResponse<String> created = send("POST", "/api/departments", token,
+                "{\"name\":\"IT\",\"description\":\"Information Technology\"}");
+        assertEquals(201, created.statusCode(), created.body());
+        JsonNode departments = objectMapper.readTree(send("GET", "/api/departments", token, null).body());
+        assertEquals("IT", departments.get("data").get(0).get("name").asText());
+
+        // EmployeeController
+        HttpResponse<String> employees = send("GET", "/api/employees", token, null);
+        assertEquals(200, employees.statusCode());
+        assertTrue(objectMapper.readTree(employees.body()).get("success").asBoolean());
+
+        // LeaveRequestController
+        HttpResponse<String> leaves = send("GET", "/api/leaves", token, null);
+        assertEquals(200, leaves.statusCode());
+        assertEquals(0, objectMapper.readTree(leaves.body()).get("data").size());
+
+        assertEquals(401, send("GET", "/api/leaves", null, null).statusCode());
+    }
+}
@@ -0,0 +1,106 @@
+package com.SpringBoot.Project.IntegrationTests;
+
+import com.SpringBoot.Project.Database.ReplicaLagMonitor;
+import com.SpringBoot.Project.Models.Department;
+import com.SpringBoot.Project.Repositories.DepartmentInterface;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two embedded H2 databases stand in for the Oracle primary and its replica. Only the primary is migrated, the replica
+// just has the table its lag is read from, which the tests set by hand before running the check.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "app.datasource.replica.url=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "app.datasource.replica.lag-query=SELECT MAX(seconds) FROM replica_lag",
+        "app.datasource.replica.max-lag=5s",
+        "app.datasource.replica.check-interval=3600000",
+        "app.reactive.enabled=false",
+        "app.outbox.sink=memory",
+        "app.outbox.poll-interval=3600000"
+})
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private DepartmentInterface departmentInterface;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Shared with the test's own connection: whichever opens the database first creates the table
+    static final String REPLICA_URL =
+            "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;INIT=CREATE TABLE IF NOT EXISTS replica_lag (seconds INT)";
+
+    // Straight to the replica database, outside the application's pools
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    private void replicaLag(int seconds) {
+        replica.update("DELETE FROM replica_lag");
+        replica.update("INSERT INTO replica_lag (seconds) VALUES (?)", seconds);
+        replicaLagMonitor.check();
+    }
+
+    private String database(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private double connections(String route) {
+        return meterRegistry.get("app.datasource.connections").tag("route", route).counter().count();
+    }
+
+    @Test
+    void readOnlyTransaction_UsesTheReplica() {
+        replicaLag(0);
+        double before = connections("replica");
+
+        assertEquals("ROUTING-REPLICA", database(true));
+        assertTrue(replicaLagMonitor.isAvailable());
+        assertEquals(before + 1, connections("replica"));
+        // Each route's pool has its own meters
+        assertNotNull(meterRegistry.find("hikaricp.connections.active").tag("pool", "LeaveReplicaPool").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections.active").tag("pool", "LeavePool").gauge());
+    }
+
+    @Test
+    void readWriteTransaction_UsesThePrimary() {
+        replicaLag(0);
+
+        assertEquals("ROUTING-PRIMARY", database(false));
+        // The schema only exists on the primary, so this write would fail anywhere else
+        assertTrue(departmentInterface.save(new Department("Routing " + System.nanoTime(), null)).getDepartmentId() > 0);
+    }
+
+    @Test
+    void laggingReplica_FallsBackToThePrimaryUntilItCatchesUp() {
+        replicaLag(60);
+        double before = connections("fallback");
+
+        assertFalse(replicaLagMonitor.isAvailable());
+        assertEquals("ROUTING-PRIMARY", database(true));
+        assertEquals(before + 1, connections("fallback"));
+
+        replicaLag(1);
+        assertEquals("ROUTING-REPLICA", database(true));
+    }
+}
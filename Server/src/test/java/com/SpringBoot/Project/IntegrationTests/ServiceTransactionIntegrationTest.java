@@ -0,0 +1,165 @@
+package com.SpringBoot.Project.IntegrationTests;
+
+import com.SpringBoot.Project.Analytics.LeaveAggregates;
+import com.SpringBoot.Project.Models.*;
+import com.SpringBoot.Project.Repositories.DepartmentInterface;
+import com.SpringBoot.Project.Repositories.EmployeeInterface;
+import com.SpringBoot.Project.Repositories.LeaveRequestInterface;
+import com.SpringBoot.Project.Repositories.RoleInterface;
+import com.SpringBoot.Project.Repositories.UserInterface;
+import com.SpringBoot.Project.Services.DepartmentService;
+import com.SpringBoot.Project.Services.EmployeeService;
+import com.SpringBoot.Project.Services.LeaveRequestService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+// Transaction boundaries of the services, read from Hibernate's statistics on an embedded H2 database
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:service-transactions;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "app.reactive.enabled=false",
+        "app.outbox.sink=memory",
+        "app.outbox.poll-interval=3600000"
+})
+class ServiceTransactionIntegrationTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private LeaveRequestService leaveRequestService;
+
+    @MockitoSpyBean
+    private LeaveAggregates leaveAggregates;
+
+    @Autowired
+    private DepartmentInterface departmentInterface;
+
+    @Autowired
+    private LeaveRequestInterface leaveRequestInterface;
+
+    @Autowired
+    private EmployeeInterface employeeInterface;
+
+    @Autowired
+    private RoleInterface roleInterface;
+
+    @Autowired
+    private UserInterface userInterface;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Department department;
+    private Roles role;
+    private UserEntity user;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        department = departmentInterface.save(new Department("Transactions " + System.nanoTime(), null));
+        role = roleInterface.findByName("EMPLOYEE").orElseGet(() -> roleInterface.save(new Roles("EMPLOYEE")));
+        user = new UserEntity();
+        user.setUsername("carol" + System.nanoTime());
+        user.setPassword("{noop}password");
+        user.setRoles(List.of(role));
+        user = userInterface.save(user);
+        employee = employeeInterface.save(new Employee("carol", user.getUsername() + "@example.com", department, role, user));
+        statistics.clear();
+    }
+
+    // An employee as the controller hands it over, associations carry only their keys
+    private Employee request(String email) {
+        Department departmentRef = new Department();
+        ReflectionTestUtils.setField(departmentRef, "departmentId", department.getDepartmentId());
+        Roles roleRef = new Roles();
+        ReflectionTestUtils.setField(roleRef, "id", role.getId());
+        UserEntity userRef = new UserEntity();
+        userRef.setUsername(user.getUsername());
+        return new Employee("carol", email, departmentRef, roleRef, userRef);
+    }
+
+    @Test
+    void reads_RunInOneTransactionWithoutFlushing() {
+        assertTrue(employeeService.getEmployeeById(employee.getEmployeeId()).isSuccess());
+        assertTrue(employeeService.getEmployeesByIds(List.of(employee.getEmployeeId())).isSuccess());
+        assertTrue(employeeService.getAllEmployees().isSuccess());
+        assertTrue(departmentService.getDepartmentById(department.getDepartmentId()).isSuccess());
+
+        assertEquals(4, statistics.getTransactionCount());
+        assertEquals(0, statistics.getFlushCount());
+    }
+
+    @Test
+    void saveOrUpdateEmployee_LooksUpAndSavesInOneTransaction() {
+        Result<Employee> result = employeeService.saveOrUpdateEmployee(request("new" + System.nanoTime() + "@example.com"));
+
+        assertTrue(result.isSuccess());
+        assertEquals(1, statistics.getTransactionCount());
+        assertEquals(1, statistics.getSuccessfulTransactionCount());
+        assertTrue(employeeInterface.existsById(result.getData().getEmployeeId()));
+    }
+
+    @Test
+    void saveOrUpdateEmployee_ConstraintViolation_RollsBackAndReturnsTheFailure() {
+        long before = employeeInterface.count();
+        statistics.clear();
+
+        Result<Employee> result = employeeService.saveOrUpdateEmployee(request(employee.getEmail()));
+
+        assertFalse(result.isSuccess());
+        assertEquals("Failed to save employee", result.getMessage());
+        assertEquals(1, statistics.getTransactionCount());
+        assertEquals(0, statistics.getSuccessfulTransactionCount());
+        assertEquals(before, employeeInterface.count());
+    }
+
+    @Test
+    void deleteDepartmentById_ChecksAndDeletesInOneTransaction() {
+        Department empty = departmentInterface.save(new Department("Empty " + System.nanoTime(), null));
+        statistics.clear();
+
+        assertFalse(departmentService.deleteDepartmentById(department.getDepartmentId()).isSuccess());
+        assertTrue(departmentService.deleteDepartmentById(empty.getDepartmentId()).isSuccess());
+
+        assertEquals(2, statistics.getTransactionCount());
+        assertFalse(departmentInterface.existsById(empty.getDepartmentId()));
+    }
+
+    @Test
+    void submitLeaveRequest_AggregateFailure_RollsBackTheRequest() {
+        doThrow(new DataAccessResourceFailureException("leave_stats unavailable"))
+                .when(leaveAggregates).recordTransition(any(), any(), any());
+        long before = leaveRequestInterface.count();
+        LeaveRequest leaveRequest = new LeaveRequest(null, LocalDate.now().plusDays(10), LocalDate.now().plusDays(12),
+                Status.PENDING, "Vacation", null);
+
+        Result<LeaveRequest> result = leaveRequestService.submitLeaveRequest(leaveRequest, employee.getEmployeeId());
+
+        assertFalse(result.isSuccess());
+        assertEquals("Failed to submit leave request", result.getMessage());
+        assertEquals(before, leaveRequestInterface.count());
+    }
+}
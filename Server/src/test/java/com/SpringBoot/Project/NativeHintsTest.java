@@ -0,0 +1,24 @@
+package com.SpringBoot.Project;
+
+import com.SpringBoot.Project.Dto.EmployeeExportRow;
+import com.SpringBoot.Project.Models.Result;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NativeHintsTest {
+
+	@Test
+	void registersJwtLog4jAndDtoHints() {
+		RuntimeHints hints = new RuntimeHints();
+		new NativeHints().registerHints(hints, getClass().getClassLoader());
+
+		assertTrue(RuntimeHintsPredicates.reflection().onType(io.jsonwebtoken.impl.DefaultJwtBuilder.class).test(hints));
+		assertTrue(RuntimeHintsPredicates.reflection().onType(Result.class).test(hints));
+		assertTrue(RuntimeHintsPredicates.reflection().onType(EmployeeExportRow.class).withMemberCategory(
+				org.springframework.aot.hint.MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS).test(hints));
+		assertTrue(RuntimeHintsPredicates.resource().forResource("log4j2.xml").test(hints));
+	}
+}
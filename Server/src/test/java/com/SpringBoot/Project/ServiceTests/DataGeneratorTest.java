@@ -0,0 +1,106 @@
+package com.SpringBoot.Project.ServiceTests;
+
+import com.SpringBoot.Project.Database.DataGenerator;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataGeneratorTest {
+
+    private static DataGenerator.Settings settings(String prefix) {
+        return new DataGenerator.Settings(7, 5, 200, 3, 4, prefix, "{noop}password", 64);
+    }
+
+    private static JdbcDataSource migratedDatabase() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/h2").load().migrate();
+        return dataSource;
+    }
+
+    @Test
+    void generate_WritesConsistentHistory() throws SQLException {
+        JdbcDataSource dataSource = migratedDatabase();
+        DataGenerator.Summary summary = new DataGenerator(dataSource).generate(settings("gen"));
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        assertEquals(200, summary.employees());
+        assertEquals(201, summary.users());
+        assertEquals(summary.leaveRequests(), jdbc.queryForObject("select count(*) from leave_request", Long.class));
+        assertTrue(summary.leaveRequests() > 200 * 4, "Expected a multi-year history per employee");
+        assertEquals(1, jdbc.queryForObject("select count(*) from user_entity u join user_roles ur on ur.user_id = u.id "
+                + "join roles r on r.id = ur.role_id where u.username = 'gen.admin' and r.name = 'ADMIN'", Integer.class));
+
+        // Requests in the past are decided, and an employee's requests never overlap
+        assertEquals(0, jdbc.queryForObject("select count(*) from leave_request where status = 'PENDING' "
+                + "and start_date <= current_date", Integer.class));
+        assertEquals(0, jdbc.queryForObject("select count(*) from leave_request a join leave_request b "
+                + "on a.employee_id = b.employee_id and a.id < b.id "
+                + "and a.start_date <= b.end_date and b.start_date <= a.end_date", Integer.class));
+    }
+
+    @Test
+    void generate_SameSeedGivesSameData() throws SQLException {
+        JdbcDataSource first = migratedDatabase();
+        JdbcDataSource second = migratedDatabase();
+        new DataGenerator(first).generate(settings("gen"));
+        new DataGenerator(second).generate(settings("gen"));
+
+        String query = "select e.employee_id, e.name, e.department_id, l.start_date, l.end_date, l.status "
+                + "from employee e join leave_request l on l.employee_id = e.employee_id order by l.id";
+        List<Map<String, Object>> expected = new JdbcTemplate(first).queryForList(query);
+        assertEquals(expected, new JdbcTemplate(second).queryForList(query));
+    }
+
+    @Test
+    void generate_LeavesSequencesAheadOfGeneratedIds() throws SQLException {
+        JdbcDataSource dataSource = migratedDatabase();
+        new DataGenerator(dataSource).generate(settings("gen"));
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        // The next block Hibernate reserves starts 49 below the sequence value it reads
+        long nextBlockStart = jdbc.queryForObject("select next value for leave_request_seq", Long.class) - 49;
+        assertTrue(nextBlockStart > jdbc.queryForObject("select max(id) from leave_request", Long.class));
+        long nextEmployeeBlock = jdbc.queryForObject("select next value for employee_seq", Long.class) - 49;
+        assertTrue(nextEmployeeBlock > jdbc.queryForObject("select max(employee_id) from employee", Long.class));
+    }
+
+    @Test
+    void generate_RejectsPrefixThatWasAlreadyUsed() throws SQLException {
+        JdbcDataSource dataSource = migratedDatabase();
+        DataGenerator generator = new DataGenerator(dataSource);
+        generator.generate(settings("gen"));
+
+        assertThrows(IllegalStateException.class, () -> generator.generate(settings("gen")));
+        generator.generate(settings("more"));
+        assertEquals(400, new JdbcTemplate(dataSource).queryForObject("select count(*) from employee", Integer.class));
+        assertEquals(3, new JdbcTemplate(dataSource).queryForObject("select count(*) from roles", Integer.class));
+    }
+
+    @Test
+    void generate_FailureHalfwayRemovesCommittedBatches() throws SQLException {
+        JdbcDataSource dataSource = migratedDatabase();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        // Several batches in, the username clashes with a row that was there before
+        jdbc.update("insert into user_entity (id, username, password) values (-1, 'gen.user150', 'x')");
+
+        assertThrows(SQLException.class, () -> new DataGenerator(dataSource).generate(settings("gen")));
+
+        assertEquals(1, jdbc.queryForObject("select count(*) from user_entity", Integer.class));
+        assertEquals(0, jdbc.queryForObject("select count(*) from employee", Integer.class));
+        assertEquals(0, jdbc.queryForObject("select count(*) from leave_request", Integer.class));
+        assertEquals(0, jdbc.queryForObject("select count(*) from department", Integer.class));
+
+        // With the clash gone the same seed and prefix run again
+        jdbc.update("delete from user_entity where id = -1");
+        assertEquals(200, new DataGenerator(dataSource).generate(settings("gen")).employees());
+    }
+}
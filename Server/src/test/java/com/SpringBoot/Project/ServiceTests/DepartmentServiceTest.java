@@ -65,10 +65,9 @@ class DepartmentServiceTest {
     @Test
     void deleteDepartmentById_HasEmployees() {
         Department department = new Department("IT", "Information Technology");
-        Employee employee = new Employee("John Doe", "john@example.com", department, role, userEntity);
 
         when(departmentInterface.findById(1L)).thenReturn(Optional.of(department));
-        when(employeeInterface.findAllByDepartment(department)).thenReturn(List.of(employee));
+        when(employeeInterface.countByDepartment(department)).thenReturn(1L);
 
         Result<Void> result = departmentService.deleteDepartmentById(1L);
 
@@ -153,7 +152,7 @@ class DepartmentServiceTest {
     void deleteDepartmentById_Success() {
         Department department = new Department("IT", "Information Technology");
         when(departmentInterface.findById(1L)).thenReturn(Optional.of(department));
-        when(employeeInterface.findAllByDepartment(department)).thenReturn(new ArrayList<>());
+        when(employeeInterface.countByDepartment(department)).thenReturn(0L);
         doNothing().when(departmentInterface).deleteById(1L);
 
         Result<Void> result = departmentService.deleteDepartmentById(1L);
@@ -0,0 +1,215 @@
+package com.SpringBoot.Project.ServiceTests;
+
+import com.SpringBoot.Project.Dto.EmployeeImportReportDto;
+import com.SpringBoot.Project.Models.*;
+import com.SpringBoot.Project.Repositories.DepartmentInterface;
+import com.SpringBoot.Project.Repositories.EmployeeInterface;
+import com.SpringBoot.Project.Repositories.RoleInterface;
+import com.SpringBoot.Project.Repositories.UserInterface;
+import com.SpringBoot.Project.Services.EmployeeImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeImportServiceTest {
+
+    @Mock
+    private EmployeeInterface employeeInterface;
+
+    @Mock
+    private DepartmentInterface departmentInterface;
+
+    @Mock
+    private RoleInterface roleInterface;
+
+    @Mock
+    private UserInterface userInterface;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EmployeeImportService employeeImportService;
+
+    @BeforeEach
+    void setUp() {
+        employeeImportService = new EmployeeImportService(employeeInterface, departmentInterface, roleInterface,
+                userInterface, entityManager, transactionManager,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper());
+
+        Department department = new Department("IT", "Information Technology");
+        Roles role = new Roles("ROLE_EMPLOYEE");
+        try {
+            var deptField = Department.class.getDeclaredField("departmentId");
+            deptField.setAccessible(true);
+            deptField.set(department, 1L);
+
+            var roleField = Roles.class.getDeclaredField("id");
+            roleField.setAccessible(true);
+            roleField.set(role, 1);
+        } catch (Exception e) {
+            fail("Failed to set IDs");
+        }
+
+        when(departmentInterface.findAll()).thenReturn(List.of(department));
+        when(roleInterface.findAll()).thenReturn(List.of(role));
+    }
+
+    private void givenEveryUsernameExists() {
+        when(userInterface.findAllByUsernameIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> usernames = invocation.getArgument(0);
+            return usernames.stream().map(username -> {
+                UserEntity user = new UserEntity();
+                user.setUsername(username);
+                return user;
+            }).toList();
+        });
+    }
+
+    private EmployeeImportReportDto runImport(String body, DataFormat format) {
+        Result<EmployeeImportReportDto> result = employeeImportService.importEmployees(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format);
+        assertTrue(result.isSuccess());
+        return result.getData();
+    }
+
+    @Test
+    void importCsv_Success() {
+        givenEveryUsernameExists();
+        when(employeeInterface.findExistingEmails(anyCollection())).thenReturn(List.of());
+
+        EmployeeImportReportDto report = runImport("name,email,departmentId,roleId,username\n"
+                + "\"Doe, John\",john.doe@example.com,1,1,john.doe\n", DataFormat.CSV);
+
+        assertEquals(1, report.getRowsRead());
+        assertEquals(1, report.getImported());
+        assertEquals(0, report.getFailed());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Employee>> saved = ArgumentCaptor.forClass(List.class);
+        verify(employeeInterface).saveAll(saved.capture());
+        assertEquals("Doe, John", saved.getValue().get(0).getName());
+        verify(entityManager).clear();
+    }
+
+    @Test
+    void importCsv_ReportsUnknownReferencesPerRow() {
+        givenEveryUsernameExists();
+        when(employeeInterface.findExistingEmails(anyCollection())).thenReturn(List.of());
+
+        EmployeeImportReportDto report = runImport(
+                "John Doe,john.doe@example.com,1,1,john.doe\n"
+                        + "Jane Doe,jane.doe@example.com,7,1,jane.doe\n"
+                        + "Jim Doe,jim.doe@example.com,1,5,jim.doe\n", DataFormat.CSV);
+
+        assertEquals(3, report.getRowsRead());
+        assertEquals(1, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals(2, report.getErrors().get(0).getRow());
+        assertEquals("No department of id 7", report.getErrors().get(0).getMessage());
+        assertEquals("No role of id 5", report.getErrors().get(1).getMessage());
+    }
+
+    @Test
+    void importNdjson_RejectsMalformedAndDuplicateRows() {
+        givenEveryUsernameExists();
+        when(employeeInterface.findExistingEmails(anyCollection())).thenReturn(List.of("taken@example.com"));
+
+        EmployeeImportReportDto report = runImport(
+                "{\"name\":\"John Doe\",\"email\":\"john.doe@example.com\",\"departmentId\":1,\"roleId\":1,\"username\":\"john.doe\"}\n"
+                        + "{not json\n"
+                        + "{\"name\":\"Taken\",\"email\":\"taken@example.com\",\"departmentId\":1,\"roleId\":1,\"username\":\"taken\"}\n"
+                        + "{\"name\":\"Bad Email\",\"email\":\"nope\",\"departmentId\":1,\"roleId\":1,\"username\":\"bad\"}\n",
+                DataFormat.NDJSON);
+
+        assertEquals(4, report.getRowsRead());
+        assertEquals(1, report.getImported());
+        assertEquals(3, report.getFailed());
+        assertTrue(report.getErrors().get(0).getMessage().startsWith("Malformed row"));
+        assertEquals("Employee with email taken@example.com already exists", report.getErrors().get(1).getMessage());
+        assertEquals("Email must be a valid format", report.getErrors().get(2).getMessage());
+    }
+
+    @Test
+    void importCsv_InsertsInChunks() {
+        givenEveryUsernameExists();
+        when(employeeInterface.findExistingEmails(anyCollection())).thenReturn(List.of());
+
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 501; i++) {
+            body.append("Employee ").append(i).append(",employee").append(i).append("@example.com,1,1,user").append(i).append('\n');
+        }
+
+        EmployeeImportReportDto report = runImport(body.toString(), DataFormat.CSV);
+
+        assertEquals(501, report.getImported());
+        verify(employeeInterface, times(2)).saveAll(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void importCsv_FailedBatchMarksAcceptedRowsAsFailed() {
+        givenEveryUsernameExists();
+        when(employeeInterface.findExistingEmails(anyCollection())).thenReturn(List.of());
+        doThrow(new IllegalStateException("constraint violated")).when(entityManager).flush();
+
+        EmployeeImportReportDto report = runImport("John Doe,john.doe@example.com,1,1,john.doe\n",
+                DataFormat.CSV);
+
+        assertEquals(0, report.getImported());
+        assertEquals(1, report.getFailed());
+        assertEquals("Batch insert failed: constraint violated", report.getErrors().get(0).getMessage());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void importCsv_FailedBatchIsRetriedToReportOnlyTheFailingRow() {
+        givenEveryUsernameExists();
+        when(employeeInterface.findExistingEmails(anyCollection())).thenReturn(List.of());
+        // The database rejects any batch holding the clashing row, the others insert fine
+        List<List<Employee>> batches = new ArrayList<>();
+        when(employeeInterface.saveAll(any())).thenAnswer(invocation -> {
+            List<Employee> batch = new ArrayList<>(invocation.getArgument(0));
+            batches.add(batch);
+            return batch;
+        });
+        doAnswer(invocation -> {
+            if (batches.get(batches.size() - 1).stream().anyMatch(employee -> "clash@example.com".equals(employee.getEmail()))) {
+                throw new IllegalStateException("unique constraint violated");
+            }
+            return null;
+        }).when(entityManager).flush();
+
+        EmployeeImportReportDto report = runImport("Anna,anna@example.com,1,1,anna\n"
+                + "Ben,ben@example.com,1,1,ben\n"
+                + "Clash,clash@example.com,1,1,clash\n"
+                + "Dora,dora@example.com,1,1,dora\n"
+                + "Emil,nope,1,1,emil\n", DataFormat.CSV);
+
+        assertEquals(3, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals(List.of(5L, 3L), report.getErrors().stream().map(EmployeeImportReportDto.RowError::getRow).toList());
+        assertEquals("Batch insert failed: unique constraint violated", report.getErrors().get(1).getMessage());
+    }
+}
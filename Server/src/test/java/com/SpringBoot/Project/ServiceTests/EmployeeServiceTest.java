@@ -1,5 +1,6 @@
 package com.SpringBoot.Project.ServiceTests;
 
+import com.SpringBoot.Project.Dto.EmployeeLookupDto;
 import com.SpringBoot.Project.Models.*;
 import com.SpringBoot.Project.Services.*;
 import com.SpringBoot.Project.Repositories.EmployeeInterface;
@@ -16,6 +17,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -249,4 +251,56 @@ class EmployeeServiceTest {
         assertEquals("No employees found with id of: 1", result.getErrors().get(0));
         verify(employeeInterface, never()).deleteById(anyLong());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getEmployeesByIds_KeepsRequestOrderAndFlagsMissing() {
+        try {
+            var empField = Employee.class.getDeclaredField("employeeId");
+            empField.setAccessible(true);
+            empField.set(employee, 1L);
+        } catch (Exception e) {
+            fail("Failed to set employee ID");
+        }
+        when(employeeInterface.findAllWithAssociationsByIdIn(List.of(42L, 1L))).thenReturn(List.of(employee));
+
+        Result<List<EmployeeLookupDto>> result = employeeService.getEmployeesByIds(List.of(42L, 1L, 42L));
+
+        assertTrue(result.isSuccess());
+        assertEquals(3, result.getData().size());
+        assertEquals(42L, result.getData().get(0).getId());
+        assertFalse(result.getData().get(0).isFound());
+        assertTrue(result.getData().get(1).isFound());
+        assertEquals("John Doe", result.getData().get(1).getEmployee().getName());
+        assertFalse(result.getData().get(2).isFound());
+        assertEquals("Found 1 of 3 employees.", result.getMessage());
+    }
+
+    @Test
+    void getEmployeesByIds_SplitsLargeInLists() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 1500; id++) {
+            ids.add(id);
+        }
+        when(employeeInterface.findAllWithAssociationsByIdIn(anyCollection())).thenReturn(List.of());
+
+        Result<List<EmployeeLookupDto>> result = employeeService.getEmployeesByIds(ids);
+
+        assertTrue(result.isSuccess());
+        assertEquals(1500, result.getData().size());
+        verify(employeeInterface, times(2)).findAllWithAssociationsByIdIn(anyCollection());
+    }
+
+    @Test
+    void getEmployeesByIds_TooManyIds() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 0; id <= EmployeeService.MAX_BATCH_IDS; id++) {
+            ids.add(id);
+        }
+
+        Result<List<EmployeeLookupDto>> result = employeeService.getEmployeesByIds(ids);
+
+        assertFalse(result.isSuccess());
+        assertEquals("Too many ids", result.getMessage());
+        verify(employeeInterface, never()).findAllWithAssociationsByIdIn(anyCollection());
+    }
+}
@@ -0,0 +1,83 @@
+package com.SpringBoot.Project.ServiceTests;
+
+import com.SpringBoot.Project.Dto.EmployeeExportRow;
+import com.SpringBoot.Project.Dto.LeaveRequestExportRow;
+import com.SpringBoot.Project.Models.DataFormat;
+import com.SpringBoot.Project.Models.Status;
+import com.SpringBoot.Project.Repositories.EmployeeInterface;
+import com.SpringBoot.Project.Repositories.LeaveRequestInterface;
+import com.SpringBoot.Project.Services.ExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    @Mock
+    private EmployeeInterface employeeInterface;
+
+    @Mock
+    private LeaveRequestInterface leaveRequestInterface;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new ExportService(employeeInterface, leaveRequestInterface, transactionManager, objectMapper);
+    }
+
+    @Test
+    void exportEmployees_Ndjson() throws Exception {
+        when(employeeInterface.streamAllForExport()).thenReturn(Stream.of(
+                new EmployeeExportRow(1L, "John Doe", "john.doe@example.com", 1L, "IT", "ROLE_EMPLOYEE", "john.doe"),
+                new EmployeeExportRow(2L, "Jane Doe", "jane.doe@example.com", 1L, "IT", "ROLE_MANAGER", "jane.doe")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportEmployees(out, DataFormat.NDJSON);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"name\":\"John Doe\""));
+        assertTrue(lines[1].contains("\"username\":\"jane.doe\""));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void exportLeaveRequests_CsvEscapesFields() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(leaveRequestInterface.streamAllForExport()).thenReturn(Stream.of(
+                new LeaveRequestExportRow(5L, 1L, "John Doe", 1L, LocalDate.of(2025, 2, 10),
+                        LocalDate.of(2025, 2, 15), Status.APPROVED, "Vacation, beach", null))
+                .onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportLeaveRequests(out, DataFormat.CSV);
+
+        assertEquals("id,employeeId,employeeName,departmentId,startDate,endDate,status,reason,managerComment\n"
+                + "5,1,John Doe,1,2025-02-10,2025-02-15,APPROVED,\"Vacation, beach\",\n", out.toString(StandardCharsets.UTF_8));
+        assertTrue(closed.get(), "The database cursor should be closed after exporting");
+    }
+}
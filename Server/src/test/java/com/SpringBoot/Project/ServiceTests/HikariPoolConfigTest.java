@@ -0,0 +1,61 @@
+package com.SpringBoot.Project.ServiceTests;
+
+import com.SpringBoot.Project.Database.HikariPoolConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HikariPoolConfigTest {
+
+    @Test
+    void hikariPoolSizer_DerivesSizeFromCores() {
+        HikariDataSource dataSource = new HikariDataSource();
+        BeanPostProcessor sizer = HikariPoolConfig.hikariPoolSizer(new MockEnvironment());
+
+        sizer.postProcessBeforeInitialization(dataSource, "dataSource");
+
+        int expected = Runtime.getRuntime().availableProcessors() * 2 + 1;
+        assertEquals(expected, dataSource.getMaximumPoolSize());
+        assertEquals(expected, dataSource.getMinimumIdle());
+    }
+
+    @Test
+    void hikariPoolSizer_KeepsConfiguredSize() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(4);
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "4");
+
+        HikariPoolConfig.hikariPoolSizer(environment).postProcessBeforeInitialization(dataSource, "dataSource");
+
+        assertEquals(4, dataSource.getMaximumPoolSize());
+    }
+
+    @Test
+    void hikariPoolSizer_KeepsConfiguredReplicaSize() {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setMaximumPoolSize(3);
+        replica.setMinimumIdle(1);
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.datasource.replica.hikari.maximum-pool-size", "3")
+                .withProperty("app.datasource.replica.hikari.minimum-idle", "1");
+
+        HikariPoolConfig.hikariPoolSizer(environment).postProcessBeforeInitialization(replica, "replicaDataSource");
+
+        assertEquals(3, replica.getMaximumPoolSize());
+        assertEquals(1, replica.getMinimumIdle());
+    }
+
+    @Test
+    void hikariPoolSizer_LeavesOtherPoolsAlone() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(2);
+
+        HikariPoolConfig.hikariPoolSizer(new MockEnvironment()).postProcessBeforeInitialization(dataSource, "reportingDataSource");
+
+        assertEquals(2, dataSource.getMaximumPoolSize());
+    }
+}
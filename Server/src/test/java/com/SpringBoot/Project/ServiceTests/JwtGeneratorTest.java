@@ -0,0 +1,82 @@
+package com.SpringBoot.Project.ServiceTests;
+
+import com.SpringBoot.Project.Security.JwtGenerator;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtGeneratorTest {
+
+    private final JwtGenerator jwtGenerator = new JwtGenerator();
+
+    private String token(String role) {
+        return jwtGenerator.generateToken(new UsernamePasswordAuthenticationToken(
+                "alice", null, List.of(new SimpleGrantedAuthority(role))));
+    }
+
+    @Test
+    void validToken_IsAcceptedAndNotCounted() {
+        String token = token("EMPLOYEE");
+
+        assertTrue(jwtGenerator.validateToken(token));
+        assertEquals("alice", jwtGenerator.getUserName(token));
+        assertEquals(Optional.of(List.of("EMPLOYEE")), jwtGenerator.getValidRoles(token));
+        assertEquals(0, jwtGenerator.getInvalidTokenCount());
+    }
+
+    @Test
+    void tamperedToken_IsRejectedAndCounted() {
+        // Same signature, payload rewritten to claim a role the user never had
+        String[] parts = token("EMPLOYEE").split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        String forged = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.replace("EMPLOYEE", "ADMIN").getBytes(StandardCharsets.UTF_8));
+        String tampered = parts[0] + "." + forged + "." + parts[2];
+
+        assertFalse(jwtGenerator.validateToken(tampered));
+        assertEquals(Optional.empty(), jwtGenerator.getValidRoles(tampered));
+        assertEquals(2, jwtGenerator.getInvalidTokenCount());
+    }
+
+    @Test
+    void expiredToken_IsRejectedAndCounted() {
+        Key key = (Key) ReflectionTestUtils.getField(jwtGenerator, "key");
+        String expired = Jwts.builder()
+                .setSubject("alice")
+                .claim("roles", List.of("EMPLOYEE"))
+                .setIssuedAt(new Date(System.currentTimeMillis() - 120_000))
+                .setExpiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(key)
+                .compact();
+
+        assertFalse(jwtGenerator.validateToken(expired));
+        assertEquals(1, jwtGenerator.getInvalidTokenCount());
+    }
+
+    @Test
+    void malformedToken_IsRejectedAndCounted() {
+        assertFalse(jwtGenerator.validateToken("not-a-token"));
+        assertFalse(jwtGenerator.validateToken(""));
+        assertEquals(2, jwtGenerator.getInvalidTokenCount());
+    }
+
+    @Test
+    void tokenSignedWithAnotherKey_IsRejectedAndCounted() {
+        String foreign = new JwtGenerator().generateToken(new UsernamePasswordAuthenticationToken(
+                "alice", null, List.of(new SimpleGrantedAuthority("ADMIN"))));
+
+        assertFalse(jwtGenerator.validateToken(foreign));
+        assertEquals(1, jwtGenerator.getInvalidTokenCount());
+    }
+}
@@ -0,0 +1,159 @@
+package com.SpringBoot.Project.ServiceTests;
+
+import com.SpringBoot.Project.Analytics.LeaveAggregates;
+import com.SpringBoot.Project.Analytics.LeaveAggregatesRebuild;
+import com.SpringBoot.Project.Analytics.LeaveStats;
+import com.SpringBoot.Project.Analytics.ParallelRebuilder;
+import com.SpringBoot.Project.Database.DataGenerator;
+import com.SpringBoot.Project.Dto.RebuildProgress;
+import com.SpringBoot.Project.Dto.RejectionRateRow;
+import com.SpringBoot.Project.Models.*;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaveAggregatesTest {
+
+    private static final String DEPARTMENT_SNAPSHOT = "select department_id, month_start, approved_requests, approved_days "
+            + "from leave_stats_department_month where approved_requests <> 0 or approved_days <> 0 order by 1, 2";
+    private static final String MANAGER_SNAPSHOT = "select decided_by, month_start, approved_requests, rejected_requests "
+            + "from leave_stats_manager_month where approved_requests <> 0 or rejected_requests <> 0 order by 1, 2";
+
+    private JdbcTemplate jdbc;
+    private LeaveAggregates leaveAggregates;
+    private ParallelRebuilder parallelRebuilder;
+    private LeaveAggregatesRebuild rebuild;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/h2").load().migrate();
+        new DataGenerator(dataSource).generate(new DataGenerator.Settings(11, 4, 150, 2, 5, "gen", "{noop}password", 100));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        leaveAggregates = new LeaveAggregates(jdbc);
+        parallelRebuilder = new ParallelRebuilder(dataSource, transactionManager, 3);
+        rebuild = new LeaveAggregatesRebuild(leaveAggregates);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelRebuilder.shutdown();
+    }
+
+    private RebuildProgress rebuild() {
+        RebuildProgress progress = parallelRebuilder.start(rebuild).completion().join();
+        assertEquals(RebuildProgress.State.COMPLETED, progress.state(), progress.summary());
+        return progress;
+    }
+
+    @Test
+    void rebuild_MatchesRawHistory() {
+        RebuildProgress progress = rebuild();
+
+        assertEquals(progress.partitions(), progress.partitionsCompleted());
+        assertEquals(jdbc.queryForObject("select count(*) from leave_request where status <> 'PENDING'", Long.class),
+                progress.rowsRead());
+        assertEquals(jdbc.queryForObject("select sum(datediff('DAY', start_date, end_date) + 1) from leave_request "
+                        + "where status = 'APPROVED'", Long.class),
+                jdbc.queryForObject("select sum(approved_days) from leave_stats_department_month", Long.class));
+        assertEquals(jdbc.queryForObject("select count(*) from leave_request where status = 'REJECTED'", Long.class),
+                jdbc.queryForObject("select sum(rejected_requests) from leave_stats_manager_month", Long.class));
+    }
+
+    @Test
+    void recordTransition_KeepsAggregatesEqualToRebuild() {
+        rebuild();
+
+        // Approve some pending requests, reject some approved ones and reopen a rejected one
+        List<Map<String, Object>> requests = jdbc.queryForList("select l.id, l.start_date, l.end_date, l.status, "
+                + "l.decided_by, e.department_id from leave_request l join employee e on e.employee_id = l.employee_id "
+                + "order by l.id");
+        int changed = 0;
+        for (Map<String, Object> row : requests) {
+            Status from = Status.valueOf((String) row.get("STATUS"));
+            Status to = switch (from) {
+                case PENDING -> Status.APPROVED;
+                case APPROVED -> Status.REJECTED;
+                case REJECTED -> Status.PENDING;
+            };
+            if (changed++ % 7 != 0) {
+                continue;
+            }
+            String decidedBy = to == Status.PENDING ? null : "jane.manager";
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbc.update("update leave_request set status = ?, decided_by = ? where id = ?",
+                        to.name(), decidedBy, row.get("ID"));
+                LeaveRequest request = leaveRequest(((Number) row.get("DEPARTMENT_ID")).longValue(),
+                        ((java.sql.Date) row.get("START_DATE")).toLocalDate(),
+                        ((java.sql.Date) row.get("END_DATE")).toLocalDate(), to, decidedBy);
+                leaveAggregates.recordTransition(request, from, (String) row.get("DECIDED_BY"));
+            });
+        }
+
+        List<Map<String, Object>> departments = jdbc.queryForList(DEPARTMENT_SNAPSHOT);
+        List<Map<String, Object>> managers = jdbc.queryForList(MANAGER_SNAPSHOT);
+        rebuild();
+        assertEquals(jdbc.queryForList(DEPARTMENT_SNAPSHOT), departments);
+        assertEquals(jdbc.queryForList(MANAGER_SNAPSHOT), managers);
+    }
+
+    @Test
+    void rejectionRateByManager_SumsTheRequestedMonths() {
+        transactionTemplate.executeWithoutResult(status -> {
+            leaveAggregates.recordTransition(leaveRequest(1, LocalDate.of(2020, 1, 6), LocalDate.of(2020, 1, 7),
+                    Status.APPROVED, "zz.manager"), null, null);
+            leaveAggregates.recordTransition(leaveRequest(1, LocalDate.of(2020, 2, 3), LocalDate.of(2020, 2, 3),
+                    Status.REJECTED, "zz.manager"), null, null);
+            leaveAggregates.recordTransition(leaveRequest(1, LocalDate.of(2020, 3, 2), LocalDate.of(2020, 3, 2),
+                    Status.REJECTED, "zz.manager"), null, null);
+        });
+
+        List<RejectionRateRow> rows = leaveAggregates.rejectionRateByManager(YearMonth.of(2020, 1), YearMonth.of(2020, 2));
+        assertEquals(List.of(new RejectionRateRow("zz.manager", 1, 1, 0.5)), rows);
+    }
+
+    @Test
+    void leaveStats_SplitsDaysOverMonths() {
+        LeaveStats stats = new LeaveStats();
+        stats.add(7, LocalDate.of(2024, 1, 30), LocalDate.of(2024, 3, 1), Status.APPROVED, "jane.manager", 1);
+
+        assertArrayEquals(new long[]{1, 2}, stats.departments().get(new LeaveStats.DepartmentMonth(7, LocalDate.of(2024, 1, 1))));
+        assertArrayEquals(new long[]{0, 29}, stats.departments().get(new LeaveStats.DepartmentMonth(7, LocalDate.of(2024, 2, 1))));
+        assertArrayEquals(new long[]{0, 1}, stats.departments().get(new LeaveStats.DepartmentMonth(7, LocalDate.of(2024, 3, 1))));
+        assertArrayEquals(new long[]{1, 0}, stats.managers().get(new LeaveStats.ManagerMonth("jane.manager", LocalDate.of(2024, 1, 1))));
+    }
+
+    private static LeaveRequest leaveRequest(long departmentId, LocalDate start, LocalDate end, Status status, String decidedBy) {
+        Department department = new Department("Department " + departmentId, null);
+        try {
+            var field = Department.class.getDeclaredField("departmentId");
+            field.setAccessible(true);
+            field.set(department, departmentId);
+        } catch (ReflectiveOperationException e) {
+            fail("Failed to set department ID");
+        }
+        Employee employee = new Employee("John Doe", "john.doe@example.com", department, null, null);
+        LeaveRequest request = new LeaveRequest(employee, start, end, status, "Vacation", null);
+        request.setDecidedBy(decidedBy);
+        return request;
+    }
+}
@@ -0,0 +1,187 @@
+package com.SpringBoot.Project.ServiceTests;
+
+import com.SpringBoot.Project.Dto.LeaveRequestChange;
+import com.SpringBoot.Project.Models.Status;
+import com.SpringBoot.Project.Streaming.LeaveEventHub;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaveEventHubTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LeaveEventHub hub;
+
+    private LeaveEventHub hub(int bufferSize, String slowConsumerPolicy) {
+        hub = new LeaveEventHub(new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry,
+                bufferSize, slowConsumerPolicy, Duration.ofMinutes(1), 2);
+        return hub;
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    private static LeaveRequestChange change(long leaveRequestId, long departmentId) {
+        return new LeaveRequestChange(LeaveRequestChange.Type.CREATED, leaveRequestId, 7, departmentId, Status.PENDING,
+                null, LocalDate.of(2030, 1, 2), LocalDate.of(2030, 1, 3));
+    }
+
+    private static void await(RecordingEmitter emitter, int frames) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emitter.frames.size() < frames && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(frames, emitter.frames.size(), emitter.frames.toString());
+    }
+
+    @Test
+    void publish_ReachesOnlyTheMatchingDepartmentsAndTheUnfilteredStreams() throws InterruptedException {
+        hub(16, "disconnect");
+        RecordingEmitter it = new RecordingEmitter();
+        RecordingEmitter sales = new RecordingEmitter();
+        RecordingEmitter everything = new RecordingEmitter();
+        hub.subscribe(1L, it);
+        hub.subscribe(2L, sales);
+        hub.subscribe(null, everything);
+
+        hub.publish(change(100, 1));
+        hub.publish(change(101, 2));
+        hub.publish(change(102, 1));
+
+        // The "connected" comment first, then the events
+        await(it, 3);
+        await(sales, 2);
+        await(everything, 4);
+        assertTrue(it.frames.get(1).contains("event:created") && it.frames.get(1).contains("\"leaveRequestId\":100"));
+        assertTrue(it.frames.get(2).contains("\"leaveRequestId\":102"));
+        assertTrue(sales.frames.get(1).contains("\"leaveRequestId\":101"));
+        assertEquals(3, hub.subscriberCount());
+    }
+
+    @Test
+    void slowSubscriber_IsDisconnectedWithoutHoldingUpTheOthers() throws InterruptedException {
+        hub(4, "disconnect");
+        RecordingEmitter slow = new RecordingEmitter();
+        slow.block = new CountDownLatch(1);
+        RecordingEmitter fast = new RecordingEmitter();
+        hub.subscribe(1L, slow);
+        hub.subscribe(1L, fast);
+        assertTrue(slow.sending.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 10; i++) {
+            hub.publish(change(i, 1));
+            // The fast one keeps up, the slow one is still stuck writing its first frame
+            await(fast, i + 2);
+        }
+
+        assertEquals(1, hub.subscriberCount());
+        assertEquals(1, meterRegistry.counter("leave.stream.disconnected").count());
+        slow.block.countDown();
+        assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void slowSubscriber_LosesItsOldestEventsWithDropOldest() throws InterruptedException {
+        hub(4, "drop-oldest");
+        RecordingEmitter slow = new RecordingEmitter();
+        slow.block = new CountDownLatch(1);
+        hub.subscribe(1L, slow);
+        assertTrue(slow.sending.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 10; i++) {
+            hub.publish(change(i, 1));
+        }
+        slow.block.countDown();
+
+        // The "connected" comment that was being written, then the four newest events
+        await(slow, 5);
+        assertTrue(slow.frames.get(1).contains("\"leaveRequestId\":6"), slow.frames.get(1));
+        assertTrue(slow.frames.get(4).contains("\"leaveRequestId\":9"), slow.frames.get(4));
+        assertEquals(6, meterRegistry.counter("leave.stream.dropped").count());
+        assertEquals(1, hub.subscriberCount());
+    }
+
+    @Test
+    void failedWrite_RemovesTheSubscriber() throws InterruptedException {
+        hub(4, "disconnect");
+        RecordingEmitter gone = new RecordingEmitter();
+        gone.broken = true;
+        hub.subscribe(null, gone);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (hub.subscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(0, hub.subscriberCount());
+    }
+
+    @Test
+    void departmentsWithoutSubscribers_AreDropped() throws InterruptedException {
+        hub(4, "disconnect");
+        RecordingEmitter staying = new RecordingEmitter();
+        hub.subscribe(1L, staying);
+        for (long department = 1; department <= 100; department++) {
+            RecordingEmitter gone = new RecordingEmitter();
+            gone.broken = true;
+            hub.subscribe(department, gone);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (hub.subscriberCount() > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1, hub.subscriberCount());
+        assertEquals(Set.of(1L), ((Map<?, ?>) ReflectionTestUtils.getField(hub, "byDepartment")).keySet());
+        hub.publish(change(100, 1));
+        await(staying, 2);
+    }
+
+    // Records the frames instead of writing them to a response, optionally holding up or failing the writes
+    private static class RecordingEmitter extends SseEmitter {
+        final List<String> frames = new CopyOnWriteArrayList<>();
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+        volatile CountDownLatch block;
+        volatile boolean broken;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            sending.countDown();
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            if (block != null) {
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            frames.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package com.SpringBoot.Project.ServiceTests;
 
+import com.SpringBoot.Project.Analytics.LeaveAggregates;
+import com.SpringBoot.Project.Dto.LeaveRequestChange;
 import com.SpringBoot.Project.Models.*;
+import com.SpringBoot.Project.Outbox.LeaveEventOutbox;
 import com.SpringBoot.Project.Repositories.EmployeeInterface;
 import com.SpringBoot.Project.Repositories.LeaveRequestInterface;
 import com.SpringBoot.Project.Services.*;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -28,6 +35,15 @@ class LeaveRequestServiceTest {
     @Mock
     private EmployeeInterface employeeInterface;
 
+    @Mock
+    private LeaveAggregates leaveAggregates;
+
+    @Mock
+    private LeaveEventOutbox leaveEventOutbox;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private LeaveRequestService leaveRequestService;
 
@@ -84,6 +100,11 @@ class LeaveRequestServiceTest {
         );
     }
 
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void testGetAllLeaveRequests() {
         when(leaveRequestInterface.findAll()).thenReturn(List.of(leaveRequest));
@@ -107,6 +128,9 @@ class LeaveRequestServiceTest {
         assertTrue(result.isSuccess());
         assertEquals("Leave request submitted successfully!", result.getMessage());
         assertNotNull(result.getData());
+        verify(leaveEventOutbox).submitted(leaveRequest);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof LeaveRequestChange change
+                && change.type() == LeaveRequestChange.Type.CREATED && change.departmentId() == 1L));
     }
 
     @Test
@@ -130,6 +154,24 @@ class LeaveRequestServiceTest {
         assertTrue(result.isSuccess());
         assertEquals(Status.APPROVED, result.getData().getStatus());
         assertEquals("Leave request updated successfully.", result.getMessage());
+        // Same request object, so the status did not change and nothing is announced
+        verifyNoInteractions(leaveEventOutbox);
+    }
+
+    @Test
+    void testUpdateLeaveRequest_RecordsDecisionInAggregates() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("jane.manager", null, List.of()));
+        when(leaveRequestInterface.findById(anyLong())).thenReturn(Optional.of(leaveRequest));
+
+        LeaveRequest decision = new LeaveRequest();
+        decision.setStatus(Status.REJECTED);
+        Result<LeaveRequest> result = leaveRequestService.updateLeaveRequest(1L, decision);
+
+        assertTrue(result.isSuccess());
+        assertEquals("jane.manager", result.getData().getDecidedBy());
+        verify(leaveAggregates).recordTransition(leaveRequest, Status.PENDING, null);
+        verify(leaveEventOutbox).statusChanged(leaveRequest, Status.PENDING);
     }
 
     @Test
@@ -144,23 +186,25 @@ class LeaveRequestServiceTest {
 
     @Test
     void testDeleteLeaveRequest_Success() {
-        when(leaveRequestInterface.existsById(anyLong())).thenReturn(true);
-        doNothing().when(leaveRequestInterface).deleteById(anyLong());
+        when(leaveRequestInterface.findById(anyLong())).thenReturn(Optional.of(leaveRequest));
 
         Result<Void> result = leaveRequestService.deleteLeaveRequest(1L);
 
         assertTrue(result.isSuccess());
         assertEquals("Leave request deleted successfully.", result.getMessage());
+        verify(leaveRequestInterface).delete(leaveRequest);
+        verify(leaveAggregates).recordRemoval(leaveRequest);
     }
 
     @Test
     void testDeleteLeaveRequest_Failure_NotFound() {
-        when(leaveRequestInterface.existsById(anyLong())).thenReturn(false);
+        when(leaveRequestInterface.findById(anyLong())).thenReturn(Optional.empty());
 
         Result<Void> result = leaveRequestService.deleteLeaveRequest(1L);
 
         assertFalse(result.isSuccess());
         assertEquals("Leave request not found.", result.getMessage());
+        verifyNoInteractions(leaveAggregates);
     }
 
     @Test
@@ -0,0 +1,157 @@
+package com.SpringBoot.Project.ServiceTests;
+
+import com.SpringBoot.Project.Analytics.DerivedDataRebuild;
+import com.SpringBoot.Project.Analytics.ParallelRebuilder;
+import com.SpringBoot.Project.Database.DataGenerator;
+import com.SpringBoot.Project.Dto.RebuildProgress;
+import com.SpringBoot.Project.Dto.RebuildProgress.State;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelRebuilderTest {
+
+    private JdbcTemplate jdbc;
+    private ParallelRebuilder parallelRebuilder;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/h2").load().migrate();
+        new DataGenerator(dataSource).generate(new DataGenerator.Settings(3, 3, 120, 2, 4, "gen", "{noop}password", 100));
+
+        jdbc = new JdbcTemplate(dataSource);
+        parallelRebuilder = new ParallelRebuilder(dataSource, new DataSourceTransactionManager(dataSource), 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelRebuilder.shutdown();
+    }
+
+    @Test
+    void start_MergesEveryRangeAndSwapsTheTotal() {
+        RequestsPerEmployee rebuild = new RequestsPerEmployee();
+
+        RebuildProgress progress = parallelRebuilder.start(rebuild).completion().join();
+
+        assertEquals(State.COMPLETED, progress.state(), progress.summary());
+        assertTrue(progress.partitions() > 3, "Expected more ranges than workers");
+        assertEquals(progress.partitions(), progress.partitionsCompleted());
+        assertEquals(jdbc.queryForObject("select count(*) from leave_request", Long.class), progress.rowsRead());
+
+        Map<Long, Long> expected = new HashMap<>();
+        jdbc.query("select employee_id, count(*) from leave_request group by employee_id",
+                (ResultSet row) -> {
+                    expected.put(row.getLong(1), row.getLong(2));
+                });
+        assertEquals(expected, rebuild.swapped.get());
+        assertEquals(expected.size() + " employees", progress.summary());
+    }
+
+    @Test
+    void cancel_StopsReadingAndKeepsThePreviousData() throws InterruptedException {
+        RequestsPerEmployee rebuild = new RequestsPerEmployee();
+        rebuild.blockReads = new CountDownLatch(1);
+
+        ParallelRebuilder.Run<Map<Long, Long>> run = parallelRebuilder.start(rebuild);
+        assertTrue(rebuild.reading.await(10, TimeUnit.SECONDS));
+        assertEquals(State.RUNNING, run.progress().state());
+        assertThrows(IllegalStateException.class, () -> parallelRebuilder.start(rebuild));
+
+        run.cancel();
+        rebuild.blockReads.countDown();
+        RebuildProgress progress = run.completion().join();
+
+        assertEquals(State.CANCELLED, progress.state());
+        assertTrue(progress.partitionsCompleted() < progress.partitions());
+        assertNull(rebuild.swapped.get());
+        // Finished runs make room for the next one
+        assertEquals(State.COMPLETED, parallelRebuilder.start(new RequestsPerEmployee()).completion().join().state());
+    }
+
+    @Test
+    void start_ReportsFailureWithoutSwapping() {
+        RequestsPerEmployee rebuild = new RequestsPerEmployee();
+        rebuild.failOnEmployee = jdbc.queryForObject("select max(employee_id) from leave_request", Long.class);
+
+        RebuildProgress progress = parallelRebuilder.start(rebuild).completion().join();
+
+        assertEquals(State.FAILED, progress.state());
+        assertTrue(progress.summary().contains("Broken row"), progress.summary());
+        assertNull(rebuild.swapped.get());
+        assertEquals(progress, parallelRebuilder.find("requests-per-employee").orElseThrow().progress());
+    }
+
+    // Counts leave requests per employee, with hooks to hold up or break the reads
+    private static class RequestsPerEmployee implements DerivedDataRebuild<Map<Long, Long>> {
+
+        final AtomicReference<Map<Long, Long>> swapped = new AtomicReference<>();
+        final CountDownLatch reading = new CountDownLatch(1);
+        volatile CountDownLatch blockReads;
+        volatile long failOnEmployee = -1;
+
+        @Override
+        public String name() {
+            return "requests-per-employee";
+        }
+
+        @Override
+        public String partitionQuery() {
+            return "select employee_id from leave_request where employee_id between ? and ?";
+        }
+
+        @Override
+        public Map<Long, Long> newPartial() {
+            return new HashMap<>();
+        }
+
+        @Override
+        public void accumulate(Map<Long, Long> partial, ResultSet row) throws SQLException {
+            reading.countDown();
+            if (blockReads != null) {
+                try {
+                    blockReads.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (row.getLong(1) == failOnEmployee) {
+                throw new IllegalStateException("Broken row");
+            }
+            partial.merge(row.getLong(1), 1L, Long::sum);
+        }
+
+        @Override
+        public Map<Long, Long> merge(Map<Long, Long> left, Map<Long, Long> right) {
+            right.forEach((employee, count) -> left.merge(employee, count, Long::sum));
+            return left;
+        }
+
+        @Override
+        public void swap(Map<Long, Long> total) {
+            swapped.set(total);
+        }
+
+        @Override
+        public String describe(Map<Long, Long> total) {
+            return total.size() + " employees";
+        }
+    }
+}
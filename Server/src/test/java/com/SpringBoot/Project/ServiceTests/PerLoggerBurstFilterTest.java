@@ -0,0 +1,44 @@
+package com.SpringBoot.Project.ServiceTests;
+
+import com.SpringBoot.Project.Logging.PerLoggerBurstFilter;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerLoggerBurstFilterTest {
+
+    // One line per second after the burst, slow enough that nothing refills while a test runs
+    private final PerLoggerBurstFilter filter = PerLoggerBurstFilter.createFilter(Level.INFO, 1, 3, null, null);
+
+    private static LogEvent event(String logger, Level level) {
+        return Log4jLogEvent.newBuilder().setLoggerName(logger).setLevel(level)
+                .setMessage(new SimpleMessage("Retrieved 3 departments")).build();
+    }
+
+    @Test
+    void burst_IsLimitedPerLogger() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Filter.Result.NEUTRAL, filter.filter(event("sampled.Busy", Level.INFO)));
+        }
+        assertEquals(Filter.Result.DENY, filter.filter(event("sampled.Busy", Level.INFO)));
+
+        // A flood on one logger leaves the others their own budget
+        assertEquals(Filter.Result.NEUTRAL, filter.filter(event("sampled.Quiet", Level.INFO)));
+    }
+
+    @Test
+    void warningsAndErrors_AreNeverDropped() {
+        for (int i = 0; i < 10; i++) {
+            filter.filter(event("sampled.Busy", Level.INFO));
+        }
+
+        assertEquals(Filter.Result.NEUTRAL, filter.filter(event("sampled.Busy", Level.WARN)));
+        assertEquals(Filter.Result.NEUTRAL, filter.filter(event("sampled.Busy", Level.ERROR)));
+        assertEquals(Filter.Result.DENY, filter.filter(event("sampled.Busy", Level.DEBUG)));
+    }
+}
@@ -0,0 +1,80 @@
+package com.SpringBoot.Project.ServiceTests;
+
+import com.SpringBoot.Project.Metrics.QueryMetricsListener;
+import com.SpringBoot.Project.Metrics.StatementCountFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryMetricsListenerTest {
+
+    private SimpleMeterRegistry registry;
+    private QueryMetricsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        listener = new QueryMetricsListener(registry, Duration.ofMillis(100));
+    }
+
+    private void execute(String sql, long elapsedMillis, boolean success) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setElapsedTime(elapsedMillis);
+        execInfo.setSuccess(success);
+        listener.afterQuery(execInfo, List.of(new QueryInfo(sql)));
+    }
+
+    @Test
+    void afterQuery_TimesStatementsByType() {
+        execute("select e.employee_id from employee e", 3, true);
+        execute("select d.department_id from department d", 7, true);
+        execute("insert into employee values (?, ?)", 250, false);
+
+        var selects = registry.get(QueryMetricsListener.TIMER_NAME).tag("type", "select").tag("outcome", "success").timer();
+        assertEquals(2, selects.count());
+        assertEquals(10, selects.totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, registry.get(QueryMetricsListener.TIMER_NAME).tag("type", "insert").tag("outcome", "error").timer().count());
+    }
+
+    @Test
+    void statementCountFilter_RecordsStatementsPerRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/departments/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/departments/{id}");
+
+        new StatementCountFilter(registry).doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            execute("select * from department where department_id = ?", 1, true);
+            execute("select * from employee where department_id = ?", 1, true);
+        });
+        // Statements outside of a request are timed but not counted for anyone
+        execute("select 1 from dual", 1, true);
+
+        DistributionSummary summary = registry.get(StatementCountFilter.SUMMARY_NAME)
+                .tag("uri", "/api/departments/{id}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.totalAmount());
+    }
+
+    @Test
+    void statementCountFilter_LeavesOutAsyncRequests() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees/export");
+        request.setAsyncSupported(true);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/employees/export");
+
+        new StatementCountFilter(registry).doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertNull(registry.find(StatementCountFilter.SUMMARY_NAME).tag("uri", "/api/employees/export").summary());
+    }
+}
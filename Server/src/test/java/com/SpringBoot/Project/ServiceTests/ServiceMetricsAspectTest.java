@@ -0,0 +1,82 @@
+package com.SpringBoot.Project.ServiceTests;
+
+import com.SpringBoot.Project.Metrics.ServiceMetricsAspect;
+import com.SpringBoot.Project.Models.Department;
+import com.SpringBoot.Project.Repositories.DepartmentInterface;
+import com.SpringBoot.Project.Repositories.EmployeeInterface;
+import com.SpringBoot.Project.Services.DepartmentService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceMetricsAspectTest {
+
+    @Mock
+    private DepartmentInterface departmentInterface;
+
+    @Mock
+    private EmployeeInterface employeeInterface;
+
+    private SimpleMeterRegistry registry;
+    private DepartmentService departmentService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new DepartmentService(departmentInterface, employeeInterface));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(registry));
+        departmentService = factory.getProxy();
+    }
+
+    private double results(String method, String outcome) {
+        return registry.get(ServiceMetricsAspect.RESULT_COUNTER_NAME)
+                .tag("class", "DepartmentService")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .counter().count();
+    }
+
+    @Test
+    void record_CountsResultOutcomes() {
+        when(departmentInterface.findById(1L)).thenReturn(Optional.of(new Department("IT", "Information Technology")));
+        when(departmentInterface.findById(2L)).thenReturn(Optional.empty());
+
+        departmentService.getDepartmentById(1L);
+        departmentService.getDepartmentById(1L);
+        departmentService.getDepartmentById(2L);
+
+        assertEquals(2, results("getDepartmentById", "success"));
+        assertEquals(1, results("getDepartmentById", "failure"));
+
+        Timer timer = registry.get(ServiceMetricsAspect.TIMER_NAME)
+                .tag("method", "getDepartmentById")
+                .tag("outcome", "success")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void record_TimesExceptionsAsErrors() {
+        when(departmentInterface.findAll()).thenThrow(new IllegalStateException("database down"));
+
+        assertThrows(IllegalStateException.class, () -> departmentService.getAllDepartments());
+
+        assertEquals(1, registry.get(ServiceMetricsAspect.TIMER_NAME)
+                .tag("method", "getAllDepartments")
+                .tag("outcome", "error")
+                .timer().count());
+        assertTrue(registry.find(ServiceMetricsAspect.RESULT_COUNTER_NAME).counters().isEmpty());
+    }
+}
@@ -0,0 +1,232 @@
+package com.SpringBoot.Project.ServiceTests;
+
+import com.SpringBoot.Project.Dto.WebhookEndpointStatus;
+import com.SpringBoot.Project.Models.WebhookSubscription;
+import com.SpringBoot.Project.Webhooks.WebhookDelivery;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// WebhookDelivery against a local HTTP stub whose answers each test scripts
+class WebhookDeliveryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Received> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+    private volatile Responder responder = exchange -> 200;
+    private HttpServer server;
+    private WebhookDelivery delivery;
+
+    private record Received(List<Long> ids, String signature, String attempt) {
+    }
+
+    private interface Responder {
+        int respond(HttpExchange exchange) throws Exception;
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/hook", exchange -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                byte[] body = exchange.getRequestBody().readAllBytes();
+                List<Long> ids = new ArrayList<>();
+                for (JsonNode event : objectMapper.readTree(body)) {
+                    ids.add(event.get("id").asLong());
+                }
+                received.add(new Received(ids, exchange.getRequestHeaders().getFirst(WebhookDelivery.SIGNATURE_HEADER),
+                        exchange.getRequestHeaders().getFirst(WebhookDelivery.ATTEMPT_HEADER)));
+                int status = responder.respond(exchange);
+                exchange.sendResponseHeaders(status, -1);
+            } catch (Exception e) {
+                exchange.sendResponseHeaders(500, -1);
+            } finally {
+                concurrent.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (delivery != null) {
+            delivery.shutdown();
+        }
+        server.stop(0);
+    }
+
+    private WebhookDelivery delivery(int batchSize, int maxConcurrency, int queueCapacity, int maxAttempts,
+                                     int failureThreshold, Duration openDuration) {
+        delivery = new WebhookDelivery(meterRegistry, new WebhookDelivery.Settings(2, batchSize, maxConcurrency,
+                queueCapacity, maxAttempts, Duration.ofMillis(20), Duration.ofMillis(100), failureThreshold,
+                openDuration, Duration.ofSeconds(5)));
+        return delivery;
+    }
+
+    private WebhookSubscription subscription(long id, String secret) {
+        WebhookSubscription subscription = new WebhookSubscription(
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/hook", secret, null);
+        ReflectionTestUtils.setField(subscription, "id", id);
+        return subscription;
+    }
+
+    private static List<String> events(long fromId, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "{\"id\":" + (fromId + i) + ",\"type\":\"LEAVE_SUBMITTED\",\"payload\":{}}")
+                .toList();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(condition.getAsBoolean(), "Timed out");
+    }
+
+    private WebhookEndpointStatus status(long id) {
+        return delivery.status(id).orElseThrow();
+    }
+
+    @Test
+    void submit_PostsSignedBatches() throws Exception {
+        delivery(2, 1, 100, 3, 5, Duration.ofSeconds(30));
+        WebhookSubscription subscription = subscription(1, "s3cret");
+
+        assertTrue(delivery.submit(subscription, events(1, 5)));
+
+        await(() -> status(1).delivered() == 5);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), received.stream().flatMap(r -> r.ids().stream()).sorted().toList());
+        assertTrue(received.stream().allMatch(r -> r.ids().size() <= 2));
+        assertEquals(0, status(1).pending());
+
+        // The signature covers the exact body
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec("s3cret".getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String body = "[" + String.join(",", events(1, 2)) + "]";
+        assertEquals("sha256=" + HexFormat.of().formatHex(mac.doFinal(body.getBytes(StandardCharsets.UTF_8))),
+                received.get(0).signature());
+    }
+
+    @Test
+    void failedBatch_IsRetriedWithBackoffUntilAccepted() throws Exception {
+        delivery(10, 1, 100, 5, 10, Duration.ofSeconds(30));
+        AtomicInteger calls = new AtomicInteger();
+        responder = exchange -> calls.incrementAndGet() <= 2 ? 503 : 200;
+
+        delivery.submit(subscription(1, null), events(1, 3));
+
+        await(() -> status(1).delivered() == 3);
+        assertEquals(List.of("1", "2", "3"), received.stream().map(Received::attempt).toList());
+        assertEquals(6, meterRegistry.get("leave.webhooks.events").tag("outcome", "retried").counter().count());
+    }
+
+    @Test
+    void failedBatch_IsGivenUpAfterMaxAttempts() throws Exception {
+        delivery(10, 1, 100, 3, 10, Duration.ofSeconds(30));
+        responder = exchange -> 500;
+
+        delivery.submit(subscription(1, null), events(1, 2));
+
+        await(() -> status(1).failed() == 2);
+        assertEquals(3, received.size());
+        assertEquals(0, status(1).pending());
+    }
+
+    @Test
+    void rejectedBatch_IsNotRetried() throws Exception {
+        delivery(10, 1, 100, 5, 10, Duration.ofSeconds(30));
+        responder = exchange -> 400;
+
+        delivery.submit(subscription(1, null), events(1, 2));
+
+        await(() -> status(1).failed() == 2);
+        Thread.sleep(200);
+        assertEquals(1, received.size());
+        assertEquals("CLOSED", status(1).circuit());
+    }
+
+    @Test
+    void failingEndpoint_OpensTheCircuitAndProbesAfterwards() throws Exception {
+        delivery(1, 1, 100, 100, 2, Duration.ofMillis(500));
+        responder = exchange -> 500;
+
+        delivery.submit(subscription(1, null), events(1, 3));
+
+        await(() -> "OPEN".equals(status(1).circuit()));
+        int whileOpen = received.size();
+        Thread.sleep(300);
+        // Retries wait for the circuit instead of hammering the endpoint
+        assertEquals(whileOpen, received.size());
+
+        responder = exchange -> 200;
+        await(() -> status(1).delivered() == 3);
+        assertEquals("CLOSED", status(1).circuit());
+    }
+
+    @Test
+    void slowEndpoint_NeverGetsMoreThanMaxConcurrencyRequests() throws Exception {
+        delivery(1, 2, 100, 3, 10, Duration.ofSeconds(30));
+        CountDownLatch release = new CountDownLatch(1);
+        responder = exchange -> {
+            release.await(10, TimeUnit.SECONDS);
+            return 200;
+        };
+
+        delivery.submit(subscription(1, null), events(1, 6));
+
+        await(() -> status(1).inFlight() == 2);
+        Thread.sleep(200);
+        assertEquals(2, received.size());
+        release.countDown();
+        await(() -> status(1).delivered() == 6);
+        assertEquals(2, maxConcurrent.get());
+    }
+
+    @Test
+    void fullQueue_DropsEventsForThatEndpointOnly() throws Exception {
+        delivery(10, 1, 4, 3, 10, Duration.ofSeconds(30));
+        CountDownLatch release = new CountDownLatch(1);
+        responder = exchange -> {
+            release.await(10, TimeUnit.SECONDS);
+            return 200;
+        };
+        WebhookSubscription slow = subscription(1, null);
+
+        assertTrue(delivery.submit(slow, events(1, 3)));
+        assertFalse(delivery.submit(slow, events(4, 2)));
+        assertEquals(2, status(1).dropped());
+
+        release.countDown();
+        await(() -> status(1).delivered() == 3);
+        assertTrue(delivery.submit(slow, events(6, 2)));
+        await(() -> status(1).delivered() == 5);
+    }
+}